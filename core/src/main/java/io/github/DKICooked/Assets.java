@@ -0,0 +1,134 @@
+package io.github.DKICooked;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Textures, atlases and audio for the whole game, shared between screens and loaded once.
+ * <p>
+ * Everything is held on behalf of an owner (normally a screen), and an asset is only unloaded once no
+ * owner holds it any more. Main builds the next screen before it disposes the current one, so
+ * whatever both use, including everything on a retry, stays loaded across the switch.
+ * <p>
+ * {@link #preload} queues assets to decode in the background; {@link #update} gives that a time budget.
+ * Asking for an asset that hasn't finished yet just finishes it on the spot.
+ */
+public class Assets implements Disposable {
+    private final AssetManager manager = new AssetManager();
+    private final ObjectIntMap<String> refs = new ObjectIntMap<>();
+    private final ObjectMap<Object, Array<String>> held = new ObjectMap<>();
+
+    public Texture texture(Object owner, String path) {
+        return get(owner, path, Texture.class);
+    }
+
+    public TextureAtlas atlas(Object owner, String path) {
+        return get(owner, path, TextureAtlas.class);
+    }
+
+    /** Holds {@code path} for {@code owner}, loading it now if it isn't already. */
+    public <T> T get(Object owner, String path, Class<T> type) {
+        hold(owner, path, type);
+        return finish(path, type);
+    }
+
+    /**
+     * An asset that is already held, say from {@link #preload}, loading it now if it isn't yet.
+     * Anything queued ahead of it is loaded first, so queue what's needed soonest first.
+     */
+    public <T> T finish(String path, Class<T> type) {
+        if (!manager.isLoaded(path, type)) return manager.finishLoadingAsset(path);
+        return manager.get(path, type);
+    }
+
+    /** Holds {@code path} for {@code owner} and queues it to load during {@link #update}. */
+    public <T> void preload(Object owner, String path, Class<T> type) {
+        hold(owner, path, type);
+    }
+
+    /** Loads queued assets for up to {@code millis}; true once the queue is empty. */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /** Fraction of the queued assets that are loaded, 0 to 1. */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /** Drops everything {@code owner} holds; assets no one else holds are unloaded. */
+    public void releaseAll(Object owner) {
+        Array<String> paths = held.remove(owner);
+        if (paths == null) return;
+        for (String path : paths) {
+            int count = refs.get(path, 0) - 1;
+            if (count > 0) {
+                refs.put(path, count);
+            } else {
+                refs.remove(path, 0);
+                manager.unload(path);
+            }
+        }
+    }
+
+    /** How many holds {@code owner} has open. */
+    public int getHeldCount(Object owner) {
+        Array<String> paths = held.get(owner);
+        return paths == null ? 0 : paths.size;
+    }
+
+    private void hold(Object owner, String path, Class<?> type) {
+        if (refs.getAndIncrement(path, 0, 1) == 0) manager.load(path, type);
+        Array<String> paths = held.get(owner);
+        if (paths == null) {
+            paths = new Array<>();
+            held.put(owner, paths);
+        }
+        paths.add(path);
+    }
+
+    /** Approximate GPU memory of every loaded texture, atlas pages included, in bytes. */
+    public long getTextureBytes() {
+        long bytes = 0;
+        for (String name : manager.getAssetNames()) {
+            if (manager.getAssetType(name) != Texture.class) continue;
+            Texture texture = manager.get(name, Texture.class);
+            bytes += (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+        }
+        return bytes;
+    }
+
+    public int getLoadedCount() {
+        return manager.getLoadedAssets();
+    }
+
+    /** One line for the log. Allocates. */
+    public String describe() {
+        return manager.getLoadedAssets() + " assets loaded, textures " + (getTextureBytes() / 1024) + " KiB";
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity: return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444: return 2;
+            case RGB888: return 3;
+            default: return 4;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        held.clear();
+        refs.clear();
+        manager.dispose();
+    }
+}
@@ -1,12 +1,16 @@
 package io.github.DKICooked;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.DKICooked.audio.SoundPlayer;
+import io.github.DKICooked.render.FontCache;
 import io.github.DKICooked.screen.main.IntroScreen;
 import io.github.DKICooked.screen.main.MainMenuScreen;
 
@@ -17,16 +21,52 @@ public class Main extends ApplicationAdapter {
     private Texture image;
     private Screen currentScreen;
     public SoundPlayer soundPlayer;
+    public FontCache fonts;
+    public Assets assets;
+    public ResourceTracker resources;
 
+    // Loaded behind the startup screens and kept for the whole session: the menus and the game
+    private static final String[] STARTUP_TEXTURES = {
+        "toyour.png", "Infinity.png", "select.png",
+        "background.png", "rail.png", "Pause.png", "Paused.png", "GO.png"
+    };
+    private static final String GAME_ATLAS = "atlas/game.atlas";
 
     @Override
     public void create() {
         batch = new SpriteBatch();
-        soundPlayer = new SoundPlayer();
+        resources = ResourceTracker.fromSystemProperty();
+        assets = new Assets();
+        fonts = new FontCache(resources);
+        soundPlayer = new SoundPlayer(assets); // queued first, so the startup jingles are ready first
+        queueStartupLoading();
 
         setScreen(new IntroScreen(this));
     }
 
+    private void queueStartupLoading() {
+        for (String path : STARTUP_TEXTURES) assets.preload(this, path, Texture.class);
+        assets.preload(this, GAME_ATLAS, TextureAtlas.class);
+
+        // The variants the menus and the game ask for
+        fonts.queue(26, 1.5f, 2, Color.WHITE, false); // main menu
+        fonts.queue(20, 0f, 0, Color.WHITE, true);    // character select
+        fonts.queue(28, 2f, 0, Color.WHITE, false);   // game HUD
+        fonts.queue(32, 2f, 0, Color.WHITE, false);   // pause menu
+        fonts.queue(26, 0f, 0, Color.WHITE, false);   // settings
+        fonts.queue(18, 0f, 2, Color.WHITE, false);   // leaderboard
+    }
+
+    /**
+     * One frame's share of the startup loading, for screens that are only waiting anyway.
+     * Decodes queued assets for up to {@code millis}, and once those are all in, rasterizes
+     * one font per call. True once everything is loaded.
+     */
+    public boolean updateLoading(int millis) {
+        if (!assets.update(millis)) return false;
+        return fonts.bakeNext();
+    }
+
     @Override
     public void render() {
         ScreenUtils.clear(0.15f, 0.15f, 0.2f, 1f);
@@ -45,16 +85,22 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void dispose() {
+        if (currentScreen != null) currentScreen.dispose();
         if (batch != null) batch.dispose();
         if (image != null) image.dispose();
         if (soundPlayer != null) soundPlayer.dispose();
+        if (fonts != null) fonts.dispose();
+        if (assets != null) assets.dispose();
     }
 
     public void setScreen(Screen newScreen) {
-        if (currentScreen != null) {
-            currentScreen.dispose();
+        Screen previous = currentScreen;
+        if (previous != null) {
+            previous.dispose();
         }
 
         currentScreen = newScreen;
+        resources.screenChanged(previous, newScreen, assets);
+        if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) Gdx.app.debug("Assets", assets.describe());
     }
 }
@@ -0,0 +1,119 @@
+package io.github.DKICooked;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Live GPU and audio handles, by owner. Anything the game creates itself rather than getting from
+ * {@link Assets} (pixmap textures, fonts, shape renderers) is registered here with
+ * {@link #track} and disposed with {@link #disposeAll}, so every handle has an owner to blame.
+ * <p>
+ * Main checks in after every screen switch: whatever the old screen still owns, here or in
+ * {@link Assets}, is reported, and so is a screen that comes back to more live handles than it did
+ * the visit before, which is what a leak on retry looks like. Reports are logged by default;
+ * start the game with {@code -Ddki.leakCheck=strict} to crash on them instead, or {@code =off}.
+ */
+public class ResourceTracker {
+    public enum Mode { OFF, LOG, STRICT }
+
+    public static final String PROPERTY = "dki.leakCheck";
+
+    private final Mode mode;
+    private final IdentityMap<Object, Array<Disposable>> owned = new IdentityMap<>();
+    private final ObjectIntMap<Class<?>> liveOnEntry = new ObjectIntMap<>(); // per screen class, at its last visit
+    private int tracked;
+
+    public ResourceTracker(Mode mode) {
+        this.mode = mode;
+    }
+
+    /** Reads the mode from {@value #PROPERTY}; logging unless it says otherwise. */
+    public static ResourceTracker fromSystemProperty() {
+        String value = System.getProperty(PROPERTY, "");
+        switch (value) {
+            case "off":    return new ResourceTracker(Mode.OFF);
+            case "strict": return new ResourceTracker(Mode.STRICT);
+            default:       return new ResourceTracker(Mode.LOG);
+        }
+    }
+
+    /** Registers {@code resource} as {@code owner}'s and hands it back. */
+    public <T extends Disposable> T track(Object owner, T resource) {
+        Array<Disposable> resources = owned.get(owner);
+        if (resources == null) {
+            resources = new Array<>();
+            owned.put(owner, resources);
+        }
+        resources.add(resource);
+        tracked++;
+        return resource;
+    }
+
+    /** Disposes everything {@code owner} registered. */
+    public void disposeAll(Object owner) {
+        Array<Disposable> resources = owned.remove(owner);
+        if (resources == null) return;
+        for (Disposable resource : resources) resource.dispose();
+        tracked -= resources.size;
+    }
+
+    /**
+     * Every handle alive right now: the ones registered here, every managed texture, which covers
+     * everything loaded from a file, atlas pages and font pages included, and every shader, one per
+     * SpriteBatch and Stage.
+     */
+    public int getLiveHandles() {
+        if (Gdx.app == null || Gdx.gl == null) return tracked; // no context, so nothing of libGDX's can be live
+        // libGDX starts its per-app lists with the first texture and shader; Main's batch and first font make both
+        return tracked + Texture.getNumManagedTextures() + ShaderProgram.getNumManagedShaderPrograms();
+    }
+
+    /** Called by Main once {@code previous} is disposed and {@code next} is built. */
+    public void screenChanged(Object previous, Object next, Assets assets) {
+        if (mode == Mode.OFF) return;
+
+        if (previous != null) {
+            Array<Disposable> leftovers = owned.get(previous);
+            if (leftovers != null) {
+                report(name(previous) + " was disposed but still owns " + describe(leftovers));
+            }
+            int held = assets.getHeldCount(previous);
+            if (held > 0) report(name(previous) + " was disposed but still holds " + held + " assets");
+        }
+
+        int live = getLiveHandles();
+        int before = liveOnEntry.get(next.getClass(), -1);
+        if (before >= 0 && live > before) {
+            report(live - before + " more live handles entering " + name(next) + " than last time (" + live + " now)");
+        }
+        liveOnEntry.put(next.getClass(), live);
+        if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+            Gdx.app.debug("Resources", live + " live handles entering " + name(next));
+        }
+    }
+
+    private void report(String message) {
+        if (mode == Mode.STRICT) throw new GdxRuntimeException(message);
+        Gdx.app.error("Resources", message);
+    }
+
+    private static String describe(Array<Disposable> resources) {
+        StringBuilder line = new StringBuilder();
+        for (Disposable resource : resources) {
+            if (line.length() > 0) line.append(", ");
+            line.append(resource.getClass().getSimpleName());
+        }
+        return line.toString();
+    }
+
+    private static String name(Object owner) {
+        return owner.getClass().getSimpleName();
+    }
+}
@@ -3,105 +3,254 @@ package io.github.DKICooked.audio;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.DKICooked.Assets;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * All of the game's audio. Clips are queued with {@link Assets} rather than decoded up front, and each
+ * is looked up the first time it plays, by which time the startup screens have usually loaded it.
+ * <p>
+ * Sound effects share a fixed pool of voices. Each clip has a cap on how many copies of it play at
+ * once (a new trigger past the cap restarts its oldest copy), and when the pool is full a new sound
+ * takes the voice of the least important, oldest one playing, or is dropped if everything playing
+ * matters more. Volume changes are pushed to whatever is playing when they happen.
+ */
 public class SoundPlayer {
-    public static float bgmVolume = 0.5f;
-    public static float sfxVolume = 0.8f;
+    // ── Sound effects ─────────────────────────────────────────────────────────
+    // In the order they're needed: Intro and Splash play the startup clips straight away
+    private static final int STARTUP_SOFT = 0;
+    private static final int STARTUP_FAST = 1;
+    private static final int JUMP = 2;
+    private static final int METEOR = 3;
+    private static final int UFO = 4;
+    private static final int STATIC = 5;
+    private static final int CLIPS = 6;
+
+    private static final String[] CLIP_PATHS = {
+        "sounds/startup_soft.wav", "sounds/startup_fast.wav", "sounds/jump.wav",
+        "sounds/meteor.wav", "sounds/alien.wav", "sounds/static.wav"
+    };
+    private static final int[] CLIP_CAP = { 1, 1, 2, 1, 1, 1 };      // copies of a clip at once
+    private static final int[] CLIP_PRIORITY = { 3, 3, 1, 2, 2, 2 }; // higher takes voices from lower
+
+    private static final int VOICES = 8;
+    private static final long DEFAULT_CLIP_MILLIS = 1000; // when a clip's length can't be read
+
+    // ── Music ─────────────────────────────────────────────────────────────────
+    private static final String MENU_MUSIC = "sounds/menu.wav";
+    private static final String MUSIC = "sounds/music8bit.mp3";
+
+    private final Assets assets;
+    private final ObjectSet<String> queued = new ObjectSet<>(); // clips that exist; the rest stay silent
+
+    private float musicVolume = 0.5f;
+    private float sfxVolume = 0.8f;
+
+    private final Sound[] clips = new Sound[CLIPS];
+    private final long[] clipMillis = new long[CLIPS]; // how long a voice playing the clip stays busy
+
+    // The voice pool, as parallel arrays; voiceClip is -1 for a free voice
+    private final int[] voiceClip = new int[VOICES];
+    private final long[] voiceId = new long[VOICES];
+    private final long[] voiceStart = new long[VOICES];
+    private final long[] voiceEnd = new long[VOICES];
 
     private Music music;
-    private Sound jumpSound;
-    private Sound meteorSound;
-    private Sound ufoSound;
-    private Sound staticSound;
     private Music menuMusic;
-    private Sound startup_Soft;
-    private Sound startup_Fast;
-
 
-    public SoundPlayer() {
-        staticSound = Gdx.audio.newSound(Gdx.files.internal("sounds/static.wav"));
-        meteorSound = Gdx.audio.newSound(Gdx.files.internal("sounds/meteor.wav"));
-        ufoSound = Gdx.audio.newSound(Gdx.files.internal("sounds/alien.wav"));
-        music = Gdx.audio.newMusic(Gdx.files.internal("sounds/music8bit.mp3"));
-        jumpSound = Gdx.audio.newSound(Gdx.files.internal("sounds/jump.wav"));
-        menuMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/menu.wav"));
-        startup_Soft = Gdx.audio.newSound(Gdx.files.internal("sounds/startup_soft.wav"));
-        startup_Fast = Gdx.audio.newSound(Gdx.files.internal("sounds/startup_fast.wav"));
+    /** Queues every clip with {@code assets}; nothing is decoded until something drives {@link Assets#update}. */
+    public SoundPlayer(Assets assets) {
+        this.assets = assets;
+        for (int c = 0; c < CLIPS; c++) {
+            queue(CLIP_PATHS[c], Sound.class);
+            clipMillis[c] = wavMillis(Gdx.files.internal(CLIP_PATHS[c]));
+        }
+        queue(MENU_MUSIC, Music.class);
+        queue(MUSIC, Music.class);
+        for (int v = 0; v < VOICES; v++) voiceClip[v] = -1;
     }
 
-    public void playMusic() {
-        if (music != null) {
-            music.setVolume(bgmVolume);
-            music.setLooping(true);
-            music.play();
+    private void queue(String path, Class<?> type) {
+        if (Gdx.files.internal(path).exists()) {
+            assets.preload(this, path, type);
+            queued.add(path);
+        } else {
+            Gdx.app.error("SoundPlayer", path + " is missing; it will stay silent");
         }
     }
 
-    public void playStartupFast() {
-        if (startup_Fast != null) {
-            startup_Fast.play(sfxVolume);
-        }
+    /** The clip at {@code path}, finishing its load if it has to, or null if the file is missing. */
+    private <T> T clip(String path, Class<T> type) {
+        return queued.contains(path) ? assets.finish(path, type) : null;
     }
 
-    private long menuMusicId = -1;
+    // ── Playback ──────────────────────────────────────────────────────────────
 
-    public void playMenuMusic() {
-        if (menuMusic != null) {
-            menuMusic.setVolume(bgmVolume); // Music uses bgmVolume usually
-            menuMusic.setLooping(true);      // No ID needed
-            menuMusic.play();               // No arguments needed
+    public void playStartupSoft() { play(STARTUP_SOFT); }
+    public void playStartupFast() { play(STARTUP_FAST); }
+    public void playJump() { play(JUMP); }
+    public void playMeteor() { play(METEOR); }
+    public void playUFO() { play(UFO); }
+    public void playStatic() { play(STATIC); }
+
+    private void play(int clip) {
+        Sound sound = clips[clip];
+        if (sound == null) {
+            sound = clips[clip] = clip(CLIP_PATHS[clip], Sound.class);
+            if (sound == null) return;
+        }
+
+        long now = TimeUtils.millis();
+        int free = -1, copies = 0, oldestCopy = -1, victim = -1;
+        for (int v = 0; v < VOICES; v++) {
+            if (voiceClip[v] >= 0 && now >= voiceEnd[v]) voiceClip[v] = -1; // finished on its own
+            if (voiceClip[v] < 0) {
+                if (free < 0) free = v;
+                continue;
+            }
+            if (voiceClip[v] == clip) {
+                copies++;
+                if (oldestCopy < 0 || voiceStart[v] < voiceStart[oldestCopy]) oldestCopy = v;
+            }
+            if (victim < 0 || stealsBefore(v, victim)) victim = v;
+        }
+
+        int slot;
+        if (copies >= CLIP_CAP[clip]) slot = oldestCopy;  // retrigger: the newest one wins
+        else if (free >= 0) slot = free;
+        else if (CLIP_PRIORITY[voiceClip[victim]] <= CLIP_PRIORITY[clip]) slot = victim;
+        else return; // everything playing matters more
+
+        if (voiceClip[slot] >= 0) clips[voiceClip[slot]].stop(voiceId[slot]);
+        long id = sound.play(sfxVolume);
+        if (id == -1) { // the backend ran out of sources
+            voiceClip[slot] = -1;
+            return;
         }
+        voiceClip[slot] = clip;
+        voiceId[slot] = id;
+        voiceStart[slot] = now;
+        voiceEnd[slot] = now + clipMillis[clip];
     }
 
-    public void stopMenuMusic() {
-        if (menuMusic != null) {
-            menuMusic.stop(); // No ID needed
+    /** Whether voice a should be taken before voice b: less important first, then older. */
+    private boolean stealsBefore(int a, int b) {
+        int pa = CLIP_PRIORITY[voiceClip[a]], pb = CLIP_PRIORITY[voiceClip[b]];
+        if (pa != pb) return pa < pb;
+        return voiceStart[a] < voiceStart[b];
+    }
+
+    /**
+     * Length of a PCM WAV, from its fmt chunk's byte rate and its data chunk's size. Only the chunk
+     * headers are read. Close enough to know when a voice is free again.
+     */
+    private static long wavMillis(FileHandle file) {
+        if (!file.exists()) return DEFAULT_CLIP_MILLIS;
+        byte[] chunk = new byte[12];
+        try (InputStream in = file.read()) {
+            if (!readFully(in, chunk, 12)) return DEFAULT_CLIP_MILLIS; // "RIFF", size, "WAVE"
+            long byteRate = 0;
+            while (readFully(in, chunk, 8)) {
+                long size = readInt(chunk, 4) & 0xffffffffL;
+                if (isChunk(chunk, "data")) {
+                    return byteRate > 0 ? size * 1000 / byteRate : DEFAULT_CLIP_MILLIS;
+                }
+                if (isChunk(chunk, "fmt ") && size >= 12) {
+                    if (!readFully(in, chunk, 12)) break;
+                    byteRate = readInt(chunk, 8) & 0xffffffffL;
+                    size -= 12;
+                }
+                if (!skipFully(in, size + (size & 1))) break; // chunks are padded to even sizes
+            }
+        } catch (IOException e) {
+            // fall through
         }
+        return DEFAULT_CLIP_MILLIS;
     }
 
-    public void playStartupSoft() {
-        if (startup_Soft != null) {
-            startup_Soft.play(sfxVolume);
+    private static boolean readFully(InputStream in, byte[] into, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int n = in.read(into, read, length - read);
+            if (n < 0) return false;
+            read += n;
         }
+        return true;
     }
 
-    public void playMeteor() {
-        if (meteorSound != null){
-            meteorSound.play(sfxVolume);
+    private static boolean skipFully(InputStream in, long bytes) throws IOException {
+        while (bytes > 0) {
+            long n = in.skip(bytes);
+            if (n <= 0) {
+                if (in.read() < 0) return false;
+                n = 1;
+            }
+            bytes -= n;
         }
+        return true;
     }
 
-    public void playUFO() {
-        if (ufoSound != null) ufoSound.play(sfxVolume);
+    private static boolean isChunk(byte[] b, String id) {
+        return b[0] == id.charAt(0) && b[1] == id.charAt(1) && b[2] == id.charAt(2) && b[3] == id.charAt(3);
     }
 
-    public void playStatic() {
-        if (staticSound != null) staticSound.play(sfxVolume);
+    private static int readInt(byte[] b, int at) { // little-endian
+        return (b[at] & 0xff) | (b[at + 1] & 0xff) << 8 | (b[at + 2] & 0xff) << 16 | (b[at + 3] & 0xff) << 24;
+    }
+
+    public void playMusic() {
+        if (music == null) music = clip(MUSIC, Music.class);
+        if (music != null) {
+            music.setVolume(musicVolume);
+            music.setLooping(true);
+            music.play();
+        }
     }
 
     public void stopMusic() {
         if (music != null) music.stop();
     }
 
-    public void updateVolume() {
-        if (music != null) music.setVolume(bgmVolume);
+    public void playMenuMusic() {
+        if (menuMusic == null) menuMusic = clip(MENU_MUSIC, Music.class);
+        if (menuMusic != null) {
+            menuMusic.setVolume(musicVolume);
+            menuMusic.setLooping(true);
+            menuMusic.play();
+        }
+    }
+
+    public void stopMenuMusic() {
+        if (menuMusic != null) menuMusic.stop();
+    }
+
+    // ── Volume ────────────────────────────────────────────────────────────────
+
+    public float getMusicVolume() { return musicVolume; }
+    public float getSfxVolume() { return sfxVolume; }
+
+    /** Applies to both music streams straight away. */
+    public void setMusicVolume(float volume) {
+        musicVolume = volume;
+        if (music != null) music.setVolume(volume);
+        if (menuMusic != null) menuMusic.setVolume(volume);
     }
 
-    public void playJump() {
-        if (jumpSound != null) {
-            jumpSound.play(sfxVolume);
+    /** Applies to sounds already playing too. */
+    public void setSfxVolume(float volume) {
+        sfxVolume = volume;
+        long now = TimeUtils.millis();
+        for (int v = 0; v < VOICES; v++) {
+            if (voiceClip[v] >= 0 && now < voiceEnd[v]) clips[voiceClip[v]].setVolume(voiceId[v], volume);
         }
     }
 
-    // MEMORY OPTIMIZATION: Call this when the game closes
     public void dispose() {
-        if (music != null) music.dispose();
-        if (jumpSound != null) jumpSound.dispose();
-        if (meteorSound != null) meteorSound.dispose();
-        if (ufoSound != null) ufoSound.dispose();
-        if (staticSound != null) staticSound.dispose();
-        if (menuMusic != null) menuMusic.dispose();
-        if (startup_Soft != null) startup_Soft.dispose();
-        if (startup_Fast != null) startup_Fast.dispose();
+        assets.releaseAll(this);
     }
 }
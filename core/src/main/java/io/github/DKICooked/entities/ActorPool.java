@@ -0,0 +1,41 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A libGDX {@link Pool} for actors that come and go all the time, like power-ups.
+ * Pooled actors free themselves when they are removed from the stage, the same way
+ * scene2d actions do, and their reset() clears actions and per-life state.
+ * Counts how often an obtain was served from the pool, so a long raid can be checked
+ * for churn: once warmed up, misses should stop climbing.
+ * Everything handed out is also listed in a registry until it comes back.
+ */
+public abstract class ActorPool<T extends Actor & Pool.Poolable> extends Pool<T> {
+    private final ActorRegistry<? super T> registry;
+    private int hits = 0;
+    private int misses = 0;
+
+    public ActorPool(int initialCapacity, ActorRegistry<? super T> registry) {
+        super(initialCapacity);
+        this.registry = registry;
+    }
+
+    @Override
+    public T obtain() {
+        if (getFree() > 0) hits++;
+        else misses++;
+        T actor = super.obtain();
+        registry.add(actor);
+        return actor;
+    }
+
+    @Override
+    public void free(T actor) {
+        registry.remove(actor);
+        super.free(actor);
+    }
+
+    public int getHits() { return hits; }
+    public int getMisses() { return misses; }
+}
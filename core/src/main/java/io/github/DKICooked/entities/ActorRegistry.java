@@ -0,0 +1,29 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The live actors of one kind (pickups, for now), kept next to the stage so game
+ * logic can walk just those instead of scanning every stage actor with instanceof.
+ * Order isn't kept: removal swaps the last entry into the gap. Walk it backwards
+ * if entries may be removed during the walk.
+ */
+public class ActorRegistry<T> {
+    private final Array<T> members = new Array<>(false, 16);
+
+    public void add(T member) {
+        members.add(member);
+    }
+
+    public void remove(T member) {
+        members.removeValue(member, true);
+    }
+
+    public int size() {
+        return members.size;
+    }
+
+    public T get(int i) {
+        return members.get(i);
+    }
+}
@@ -1,6 +1,5 @@
 package io.github.DKICooked.entities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 
@@ -8,13 +7,26 @@ public class AsteroidManager {
     private float asteroidTimer = 0;
     private float raidDuration = 0;
     private boolean isRaidActive = false;
-    private Texture asteroidTex;
+    private float stormTimer = 0;
+    private final HazardSystem hazards;
 
     private final float CALM_TIME = 3f; // Seconds of peace
     private final float RAID_TIME = 15f; // Seconds of falling rocks
 
-    public AsteroidManager(Texture texture) {
-        this.asteroidTex = texture;
+    // Meteor storm: a wall of harmless debris with the stage 3 rocks hidden in it
+    private final float STORM_DEBRIS_PER_SECOND = 800f;
+    private final float STORM_ROCK_INTERVAL = 0.25f;
+
+    /**
+     * Start the game with {@code -Ddki.lethalStorm=true} and every piece of storm debris kills, so a meteor
+     * storm puts hundreds of lethal hazards around the player at once. Unwinnable; it's for profiling the
+     * collision path at storm density, not for play.
+     */
+    public static final String LETHAL_STORM_PROPERTY = "dki.lethalStorm";
+    private final boolean lethalStorm = Boolean.getBoolean(LETHAL_STORM_PROPERTY);
+
+    public AsteroidManager(HazardSystem hazards) {
+        this.hazards = hazards;
     }
     public void update(float delta, float playerHeight, Stage stage) {
         // Only run for the first 3 stages (Stage 1: 0-30m, Stage 2: 30-60m, Stage 3: 60-90m)
@@ -41,11 +53,6 @@ public class AsteroidManager {
     }
 
     private void handleRaid(float delta, float playerHeight, Stage stage) {
-
-        if (asteroidTimer == 0 && raidDuration < 0.1f) {
-            System.out.println("DEBUG: RAID STARTED! Spawning asteroids...");
-        }
-
         asteroidTimer += delta;
 
         // --- DYNAMIC DIFFICULTY ---
@@ -91,8 +98,36 @@ public class AsteroidManager {
         // Spawn a bit higher up to give them room to slide in
         float spawnY = cameraY + (screenHeight / 2f) + 200f;
 
-        AsteroidActor asteroid = new AsteroidActor(asteroidTex, randomX, spawnY);
-        stage.addActor(asteroid);
+        hazards.spawnAsteroid(randomX, spawnY);
+    }
+
+    /** Runs a meteor storm instead of the usual raid/calm cycle. */
+    public void updateStorm(float delta, Stage stage) {
+        float cameraY = stage.getCamera().position.y;
+        float top = cameraY + stage.getViewport().getWorldHeight() / 2f;
+
+        // Debris is spawned by rate rather than by timer, so a slow frame doesn't thin the storm out
+        stormTimer += delta;
+        int debris = (int) (stormTimer * STORM_DEBRIS_PER_SECOND);
+        stormTimer -= debris / STORM_DEBRIS_PER_SECOND;
+        for (int i = 0; i < debris; i++) {
+            hazards.spawnDebris(MathUtils.random(0f, 1300f), top + MathUtils.random(0f, 400f),
+                MathUtils.random(8f, 20f), lethalStorm);
+        }
+
+        asteroidTimer += delta;
+        if (asteroidTimer >= STORM_ROCK_INTERVAL) {
+            spawnAsteroid(stage);
+            asteroidTimer = 0;
+        }
+    }
+
+    /** Back to a calm sky, for a new run. */
+    public void reset() {
+        asteroidTimer = 0;
+        raidDuration = 0;
+        isRaidActive = false;
+        stormTimer = 0;
     }
 
     // --- GETTERS ---
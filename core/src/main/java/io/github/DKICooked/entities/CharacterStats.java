@@ -0,0 +1,56 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.utils.IntMap;
+import io.github.DKICooked.gameLogic.physics.JumpEnvelope;
+
+/** Movement stats for each playable character, shared by the player and the level generator. */
+public final class CharacterStats {
+    // Physics shared by every character
+    public static final float ACCEL = 2000f;
+    public static final float FRICTION = 1300f;
+    public static final float BASE_SPEED = 300f;
+    public static final float BASE_GRAVITY = -1800f;
+
+    public static final CharacterStats TIMOTHY = new CharacterStats(1000f, 1.0f, 1); // charges a massive high jump
+    public static final CharacterStats ALAINE  = new CharacterStats(600f, 0.4f, 1);  // low gravity, floats longer
+    public static final CharacterStats JERICK  = new CharacterStats(800f, 1.0f, 2);  // can jump again mid-air
+    public static final CharacterStats DEFAULT = new CharacterStats(600f, 1.0f, 1);
+
+    public final float jumpForce;    // How high they launch
+    public final float gravityScale; // How heavy they feel
+    public final int maxJumps;       // Total jumps allowed (1 for most, 2 for Jerick)
+
+    private final IntMap<JumpEnvelope> envelopes = new IntMap<>(); // by physics step rate; never replaced once made
+
+    private CharacterStats(float jumpForce, float gravityScale, int maxJumps) {
+        this.jumpForce = jumpForce;
+        this.gravityScale = gravityScale;
+        this.maxJumps = maxJumps;
+    }
+
+    public static CharacterStats forName(String characterName) {
+        switch (characterName) {
+            case "Timothy": return TIMOTHY;
+            case "Alaine":  return ALAINE;
+            case "Jerick":  return JERICK;
+            default:        return DEFAULT;
+        }
+    }
+
+    public float getGravity() {
+        return BASE_GRAVITY * gravityScale;
+    }
+
+    /**
+     * Where this character can land from a standing jump with physics running at {@code stepRate} per second.
+     * Simulated the first time each rate is asked for, then kept.
+     */
+    public synchronized JumpEnvelope getEnvelope(int stepRate) {
+        JumpEnvelope envelope = envelopes.get(stepRate);
+        if (envelope == null) {
+            envelope = JumpEnvelope.simulate(this, stepRate);
+            envelopes.put(stepRate, envelope);
+        }
+        return envelope;
+    }
+}
@@ -0,0 +1,233 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * Every asteroid, UFO and bit of storm debris in flight, packed into parallel arrays.
+ * One loop moves them, despawns what has left the screen and tests the player,
+ * and one pass draws them, so each hazard costs a float update and a batched quad.
+ * <p>
+ * Collision is folded into that same O(n) loop. The player's box, grown by the biggest
+ * sprite, is a window that a hazard's corner has to be inside before the circle test
+ * runs, so hazards outside it cost a few compares and never get the narrow test.
+ */
+public class HazardSystem {
+    public static final byte ASTEROID = 0;
+    public static final byte UFO = 1;
+    public static final byte DEBRIS = 2; // storm fragments: scenery, they don't kill unless spawned lethal
+
+    private static final float ASTEROID_SIZE = 64f;
+    private static final float ASTEROID_SPIN = 120f; // degrees per second
+    private static final float HITBOX = 0.4f;        // collision radius as a fraction of the sprite
+
+    private final TextureRegion asteroidRegion;
+    private final Animation<TextureRegion> ufoAnim;
+    private final float ufoWidth, ufoHeight;
+    private final float reach; // a hazard touching the player has its corner within this of the player's box
+
+    private int count;
+    private byte[] kind = new byte[64];
+    private float[] x = new float[64];        // bottom-left corner
+    private float[] y = new float[64];
+    private float[] vx = new float[64];
+    private float[] vy = new float[64];
+    private float[] rotation = new float[64]; // degrees; UFOs use this as their animation clock
+    private float[] spin = new float[64];
+    private float[] size = new float[64];     // asteroids and debris are square
+    private float[] radius = new float[64];
+
+    public HazardSystem(TextureRegion asteroidRegion, Animation<TextureRegion> ufoAnim) {
+        this.asteroidRegion = asteroidRegion;
+        this.ufoAnim = ufoAnim;
+        TextureRegion firstFrame = ufoAnim.getKeyFrame(0);
+        this.ufoWidth = firstFrame.getRegionWidth();
+        this.ufoHeight = firstFrame.getRegionHeight();
+
+        // The corner is half a sprite from the centre, and the centre can be a radius (under half a sprite) out
+        this.reach = Math.max(ASTEROID_SIZE, Math.max(ufoWidth, ufoHeight));
+    }
+
+    // ── Spawning ──────────────────────────────────────────────────────────────
+
+    public void spawnAsteroid(float startX, float startY) {
+        int i = claim(ASTEROID);
+        x[i] = startX;
+        y[i] = startY;
+        vx[i] = -150f - MathUtils.random(100f);
+        vy[i] = -(300f + MathUtils.random(200f));
+        spin[i] = ASTEROID_SPIN;
+        size[i] = ASTEROID_SIZE;
+        radius[i] = ASTEROID_SIZE * HITBOX;
+    }
+
+    public void spawnUfo(float startX, float startY) {
+        int i = claim(UFO);
+        x[i] = startX;
+        y[i] = startY;
+        // Random speed for variety; spawned left of center means it flies right
+        float speed = MathUtils.random(300f, 500f);
+        vx[i] = startX < 400 ? speed : -speed;
+        vy[i] = 0f;
+        spin[i] = 0f;
+        size[i] = ufoWidth;
+        radius[i] = ufoHeight * HITBOX;
+    }
+
+    public void spawnDebris(float startX, float startY, float debrisSize) {
+        spawnDebris(startX, startY, debrisSize, false);
+    }
+
+    /**
+     * Debris that kills like a rock when {@code lethal}, for stress runs of the collision path at storm
+     * density. {@code debrisSize} must not be bigger than an asteroid, or the window in update misses it.
+     */
+    public void spawnDebris(float startX, float startY, float debrisSize, boolean lethal) {
+        int i = claim(DEBRIS);
+        x[i] = startX;
+        y[i] = startY;
+        vx[i] = -200f - MathUtils.random(200f);
+        vy[i] = -(450f + MathUtils.random(350f));
+        spin[i] = MathUtils.random(-360f, 360f);
+        size[i] = debrisSize;
+        radius[i] = lethal ? debrisSize * HITBOX : 0f;
+    }
+
+    // ── Simulation ────────────────────────────────────────────────────────────
+
+    /**
+     * Moves everything, drops what has left the screen and, if {@code player} is not null,
+     * tests it against the lethal hazards near it. Returns true if the player was hit.
+     */
+    public boolean update(float delta, float cameraY, Rectangle player) {
+        float bottom = cameraY - 400f;
+        boolean hit = false;
+
+        // Window the hazard's bottom-left corner has to be in before the narrow test
+        boolean testing = player != null;
+        float minX = 0, maxX = 0, minY = 0, maxY = 0;
+        if (testing) {
+            minX = player.x - reach;
+            maxX = player.x + player.width + reach;
+            minY = player.y - reach;
+            maxY = player.y + player.height + reach;
+        }
+
+        for (int i = count - 1; i >= 0; i--) {
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            rotation[i] += (kind[i] == UFO ? 1f : spin[i]) * delta;
+
+            boolean gone = kind[i] == UFO
+                ? x[i] > 1000 || x[i] < -200
+                : x[i] < -100 || y[i] < bottom;
+            if (gone) {
+                removeAt(i);
+                continue;
+            }
+
+            if (testing && !hit && radius[i] > 0f
+                && y[i] > minY && y[i] < maxY && x[i] > minX && x[i] < maxX) {
+                hit = overlaps(i, player);
+            }
+        }
+        return hit;
+    }
+
+    /** Every lethal hazard against {@code player}, with no window: the answer the window in update has to give. */
+    boolean hitsAny(Rectangle player) {
+        for (int i = 0; i < count; i++) {
+            if (radius[i] > 0f && overlaps(i, player)) return true;
+        }
+        return false;
+    }
+
+    /** Circle-versus-rectangle, with the circle centred on the sprite. */
+    private boolean overlaps(int i, Rectangle r) {
+        float half = size[i] / 2f;
+        float cx = x[i] + half;
+        float cy = y[i] + (kind[i] == UFO ? ufoHeight / 2f : half);
+        float dx = cx - MathUtils.clamp(cx, r.x, r.x + r.width);
+        float dy = cy - MathUtils.clamp(cy, r.y, r.y + r.height);
+        return dx * dx + dy * dy < radius[i] * radius[i];
+    }
+
+    /** Draws what overlaps {@code view} and returns how many that was. */
+    public int draw(Batch batch, Rectangle view) {
+        float left = view.x, right = view.x + view.width;
+        float bottom = view.y, top = view.y + view.height;
+        int drawn = 0;
+
+        for (int i = 0; i < count; i++) {
+            float w = size[i];
+            float h = kind[i] == UFO ? ufoHeight : w;
+            float pad = kind[i] == UFO ? 0f : w * 0.21f; // a spinning square reaches out to half its diagonal
+            if (x[i] + w + pad < left || x[i] - pad > right || y[i] + h + pad < bottom || y[i] - pad > top) continue;
+            drawn++;
+
+            if (kind[i] == UFO) {
+                TextureRegion frame = ufoAnim.getKeyFrame(rotation[i], true);
+                if (vx[i] > 0) {
+                    batch.draw(frame, x[i], y[i], ufoWidth, ufoHeight);
+                } else {
+                    // Flip by drawing from the right edge with a negative width
+                    batch.draw(frame, x[i] + ufoWidth, y[i], -ufoWidth, ufoHeight);
+                }
+            } else {
+                float s = size[i];
+                batch.draw(asteroidRegion, x[i], y[i], s / 2f, s / 2f, s, s, 1f, 1f, rotation[i]);
+            }
+        }
+        return drawn;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /** Drops every hazard; the arrays keep their size for the next run. */
+    public void clear() {
+        count = 0;
+    }
+
+    // ── Storage ───────────────────────────────────────────────────────────────
+
+    private int claim(byte type) {
+        if (count == x.length) grow(count * 2);
+        int i = count++;
+        kind[i] = type;
+        rotation[i] = 0f;
+        return i;
+    }
+
+    /** Swaps the last hazard into slot {@code i}. */
+    private void removeAt(int i) {
+        int last = --count;
+        kind[i] = kind[last];
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        rotation[i] = rotation[last];
+        spin[i] = spin[last];
+        size[i] = size[last];
+        radius[i] = radius[last];
+    }
+
+    private void grow(int capacity) {
+        kind = Arrays.copyOf(kind, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        spin = Arrays.copyOf(spin, capacity);
+        size = Arrays.copyOf(size, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.DKICooked.entities;
+
+/**
+ * A chunk's platforms packed into parallel primitive arrays.
+ * Everything physics and rendering need is worked out once in {@link #addSlab}/{@link #addWall},
+ * so the hot loops just read floats: no per-platform objects, no min/max, no slab-versus-wall test.
+ */
+public class PlatformStore {
+    public static final byte SLAB = 0;
+    public static final byte WALL = 1;
+
+    private static final float WALL_VISUAL_WIDTH = 16f;
+    private static final float DETECTION_BUFFER = 2f; // Makes landing on walls slightly more forgiving
+    private static final float WALL_BASE = 10f; // solid depth below a wall's base, for side collisions
+
+    public int size;
+
+    public float[] left = new float[8];       // solid extent, used for side collisions (walls are a line at x)
+    public float[] right = new float[8];
+    public float[] landLeft = new float[8];   // span the feet can land on (walls are widened to their visual width)
+    public float[] landRight = new float[8];
+    public float[] top = new float[8];        // landing surface
+    public float[] bottom = new float[8];     // underside, for head bumps and side collisions
+    public float[] thickness = new float[8];
+    public byte[] type = new byte[8];
+    public PowerUpActor.Type[] powerUp = new PowerUpActor.Type[8];
+
+    public void addSlab(float x1, float x2, float y, float thickness, PowerUpActor.Type powerUp) {
+        int i = claim();
+        left[i] = landLeft[i] = Math.min(x1, x2);
+        right[i] = landRight[i] = Math.max(x1, x2);
+        top[i] = y;
+        bottom[i] = y - thickness;
+        this.thickness[i] = thickness;
+        type[i] = SLAB;
+        this.powerUp[i] = powerUp;
+    }
+
+    public void addWall(float x, float y1, float y2) {
+        int i = claim();
+        float half = WALL_VISUAL_WIDTH / 2f + DETECTION_BUFFER;
+        left[i] = right[i] = x;
+        landLeft[i] = x - half;
+        landRight[i] = x + half;
+        top[i] = Math.max(y1, y2);
+        thickness[i] = WALL_BASE;
+        bottom[i] = Math.min(y1, y2) - WALL_BASE;
+        type[i] = WALL;
+        powerUp[i] = null;
+    }
+
+    /** Copies platform {@code i} of {@code src} to the end of this store. */
+    public void addFrom(PlatformStore src, int i) {
+        int j = claim();
+        left[j] = src.left[i];
+        right[j] = src.right[i];
+        landLeft[j] = src.landLeft[i];
+        landRight[j] = src.landRight[i];
+        top[j] = src.top[i];
+        bottom[j] = src.bottom[i];
+        thickness[j] = src.thickness[i];
+        type[j] = src.type[i];
+        powerUp[j] = src.powerUp[i];
+    }
+
+    /** Surface height at {@code x}, or -1 if {@code x} isn't over platform {@code i}. */
+    public float getSurfaceY(int i, float x) {
+        return x >= landLeft[i] && x <= landRight[i] ? top[i] : -1;
+    }
+
+    public void clearPowerUps() {
+        for (int i = 0; i < size; i++) powerUp[i] = null;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) powerUp[i] = null;
+        size = 0;
+    }
+
+    private int claim() {
+        if (size == left.length) grow(size * 2);
+        return size++;
+    }
+
+    private void grow(int capacity) {
+        left = copy(left, capacity);
+        right = copy(right, capacity);
+        landLeft = copy(landLeft, capacity);
+        landRight = copy(landRight, capacity);
+        top = copy(top, capacity);
+        bottom = copy(bottom, capacity);
+        thickness = copy(thickness, capacity);
+
+        byte[] newType = new byte[capacity];
+        System.arraycopy(type, 0, newType, 0, size);
+        type = newType;
+
+        PowerUpActor.Type[] newPowerUp = new PowerUpActor.Type[capacity];
+        System.arraycopy(powerUp, 0, newPowerUp, 0, size);
+        powerUp = newPowerUp;
+    }
+
+    private float[] copy(float[] array, int capacity) {
+        float[] grown = new float[capacity];
+        System.arraycopy(array, 0, grown, 0, size);
+        return grown;
+    }
+}
@@ -1,36 +1,196 @@
 package io.github.DKICooked.entities;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IdentityMap;
+import io.github.DKICooked.gameLogic.ChunkListener;
+import io.github.DKICooked.render.RenderStats;
 
-public class PlatformTiles {
-    private Texture tileTexture;
+/**
+ * Draws platforms as rows of 16px tiles. Platforms never move, so each chunk's tiles are
+ * baked once into a static mesh on the GPU the first time the chunk is drawn, and a chunk then
+ * costs one draw call however many tiles it has, or none when it is off camera. When the world
+ * evicts the chunk its mesh goes back to a pool and the next chunk is baked into it. The pool starts
+ * with a mesh for every chunk the world keeps resident, so climbing never allocates one.
+ * <p>
+ * Call {@link #begin} once, then {@link #render} for each chunk, outside any SpriteBatch begin/end.
+ */
+public class PlatformTiles implements ChunkListener, Disposable {
+    private static final int VERTEX_FLOATS = 20; // 4 corners of x, y, color, u, v
+    private static final int INDICES = 6;        // two triangles per tile
+    private static final int MESH_TILES = 256;   // pooled meshes hold this many; a chunk has well under 200
+
+    private TextureRegion tile;
     private float tileSize = 16f;
+    private final float wallThickness = 16f;
+
+    // The same vertex layout and shader SpriteBatch uses, shared by every chunk's mesh
+    private final ShaderProgram shader = SpriteBatch.createDefaultShader();
+    private final IdentityMap<PlatformStore, ChunkMesh> meshes = new IdentityMap<>();
+    private final Array<ChunkMesh> spareMeshes = new Array<>(); // MESH_TILES-sized, from evicted chunks
+    private float[] vertices = new float[MESH_TILES * VERTEX_FLOATS]; // scratch for baking
+    private final float white = Color.WHITE.toFloatBits();
 
-    public  PlatformTiles (Texture tileTexture) {
-       this.tileTexture = tileTexture;
+    /** {@code residentChunks} meshes are made up front, so a run never has to make another one. */
+    public  PlatformTiles (TextureRegion tile, int residentChunks) {
+       this.tile = tile;
+       for (int i = 0; i < residentChunks; i++) spareMeshes.add(new ChunkMesh(newMesh(MESH_TILES), MESH_TILES));
     }
 
-    public void render(SpriteBatch batch, Platform platform) {
-        float width = Math.abs(platform.x2 - platform.x1);
-        float height = Math.abs(platform.y2 - platform.y1);
+    public void begin(Matrix4 projection) {
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        shader.setUniformi("u_texture", 0);
+        tile.getTexture().bind(0);
+    }
 
-        if (width > height) {
-            int numTiles = (int) (width/tileSize);
-            float startX = Math.min(platform.x1, platform.x2);
+    /** Draws a chunk's tiles unless they are all outside {@code view}. */
+    public void render(PlatformStore platforms, Rectangle view, RenderStats stats) {
+        if (platforms.size == 0) return;
 
-            for (int i = 0; i < numTiles; i++) {
-                batch.draw(tileTexture, startX + (i * tileSize), platform.y1 - platform.thickness, tileSize, platform.thickness);
-            }
-        } else {
-            // Vertical Wall
-            int numTiles = (int) (height / tileSize);
-            float startY = Math.min(platform.y1, platform.y2);
-            float wallThickness = 16f;
-
-            for (int i = 0; i < numTiles; i++) {
-                batch.draw(tileTexture, platform.x1 - (wallThickness / 2), startY + (i * tileSize), wallThickness, tileSize);
+        ChunkMesh chunk = meshes.get(platforms);
+        if (chunk == null) {
+            chunk = build(platforms);
+            meshes.put(platforms, chunk);
+        }
+
+        boolean visible = chunk.tiles > 0 && chunk.top >= view.y && chunk.bottom <= view.y + view.height;
+        if (visible) chunk.mesh.render(shader, GL20.GL_TRIANGLES, 0, chunk.tiles * INDICES);
+        stats.record(RenderStats.Kind.PLATFORM_TILES, visible ? chunk.tiles : 0, chunk.tiles);
+    }
+
+    private ChunkMesh build(PlatformStore platforms) {
+        int tiles = countTiles(platforms);
+        if (vertices.length < tiles * VERTEX_FLOATS) vertices = new float[tiles * VERTEX_FLOATS];
+        int v = 0;
+        float bottom = Float.MAX_VALUE, top = -Float.MAX_VALUE;
+        for (int p = 0; p < platforms.size; p++) {
+            int numTiles = tilesOf(platforms, p);
+            if (platforms.type[p] == PlatformStore.SLAB) {
+                float startX = platforms.left[p];
+
+                for (int i = 0; i < numTiles; i++) {
+                    v = putTile(vertices, v, startX + (i * tileSize), platforms.bottom[p], tileSize, platforms.thickness[p]);
+                }
+                if (numTiles > 0) {
+                    bottom = Math.min(bottom, platforms.bottom[p]);
+                    top = Math.max(top, platforms.bottom[p] + platforms.thickness[p]);
+                }
+            } else {
+                // Vertical Wall
+                float startY = platforms.bottom[p] + platforms.thickness[p];
+
+                for (int i = 0; i < numTiles; i++) {
+                    v = putTile(vertices, v, platforms.left[p] - (wallThickness / 2), startY + (i * tileSize), wallThickness, tileSize);
+                }
+                if (numTiles > 0) {
+                    bottom = Math.min(bottom, startY);
+                    top = Math.max(top, startY + numTiles * tileSize);
+                }
             }
         }
+
+        ChunkMesh chunk = obtainMesh(tiles);
+        chunk.mesh.setVertices(vertices, 0, tiles * VERTEX_FLOATS);
+        chunk.tiles = tiles;
+        chunk.bottom = bottom;
+        chunk.top = top;
+        return chunk;
+    }
+
+    /** A pooled mesh if {@code tiles} fit in one, otherwise a mesh of its own that is disposed with the chunk. */
+    private ChunkMesh obtainMesh(int tiles) {
+        if (tiles <= MESH_TILES && spareMeshes.size > 0) return spareMeshes.pop();
+        return new ChunkMesh(newMesh(Math.max(tiles, MESH_TILES)), Math.max(tiles, MESH_TILES));
+    }
+
+    /** A mesh for up to {@code capacity} tiles. The index pattern is the same for every chunk, so it is written once here. */
+    private static Mesh newMesh(int capacity) {
+        short[] indices = new short[capacity * INDICES];
+        for (int t = 0, i = 0; t < capacity; t++, i += INDICES) {
+            short corner = (short) (t * 4);
+            indices[i] = corner;
+            indices[i + 1] = (short) (corner + 1);
+            indices[i + 2] = (short) (corner + 2);
+            indices[i + 3] = (short) (corner + 2);
+            indices[i + 4] = (short) (corner + 3);
+            indices[i + 5] = corner;
+        }
+
+        Mesh mesh = new Mesh(true, capacity * 4, indices.length,
+            new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            VertexAttribute.ColorPacked(),
+            VertexAttribute.TexCoords(0));
+        mesh.setIndices(indices);
+        return mesh;
+    }
+
+    /** Writes one quad the way SpriteBatch.draw(region, x, y, w, h) would. */
+    private int putTile(float[] v, int i, float x, float y, float w, float h) {
+        float x2 = x + w, y2 = y + h;
+        float u = tile.getU(), v1 = tile.getV2(), u2 = tile.getU2(), v2 = tile.getV(); // v1 is the bottom edge
+        v[i]      = x;  v[i + 1]  = y;  v[i + 2]  = white; v[i + 3]  = u;  v[i + 4]  = v1;
+        v[i + 5]  = x;  v[i + 6]  = y2; v[i + 7]  = white; v[i + 8]  = u;  v[i + 9]  = v2;
+        v[i + 10] = x2; v[i + 11] = y2; v[i + 12] = white; v[i + 13] = u2; v[i + 14] = v2;
+        v[i + 15] = x2; v[i + 16] = y;  v[i + 17] = white; v[i + 18] = u2; v[i + 19] = v1;
+        return i + VERTEX_FLOATS;
+    }
+
+    private int countTiles(PlatformStore platforms) {
+        int tiles = 0;
+        for (int p = 0; p < platforms.size; p++) tiles += tilesOf(platforms, p);
+        return tiles;
+    }
+
+    private int tilesOf(PlatformStore platforms, int p) {
+        float length = platforms.type[p] == PlatformStore.SLAB
+            ? platforms.right[p] - platforms.left[p]
+            : platforms.top[p] - (platforms.bottom[p] + platforms.thickness[p]);
+        return Math.max((int) (length / tileSize), 0);
+    }
+
+    @Override
+    public void chunkEvicted(int index, PlatformStore platforms) {
+        ChunkMesh chunk = meshes.remove(platforms);
+        if (chunk == null) return;
+        if (chunk.capacity == MESH_TILES) spareMeshes.add(chunk);
+        else chunk.mesh.dispose();
+    }
+
+    /** Disposes every mesh, pooled ones included, for when the whole world is replaced. */
+    public void clear() {
+        for (ChunkMesh chunk : meshes.values()) chunk.mesh.dispose();
+        meshes.clear();
+        for (ChunkMesh chunk : spareMeshes) chunk.mesh.dispose();
+        spareMeshes.clear();
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        shader.dispose();
+    }
+
+    /** A chunk's baked tiles and the height they span, for culling. Rebaked for another chunk once pooled. */
+    private static final class ChunkMesh {
+        final Mesh mesh;
+        final int capacity; // tiles the mesh has room for
+        int tiles;
+        float bottom, top;
+
+        ChunkMesh(Mesh mesh, int capacity) {
+            this.mesh = mesh;
+            this.capacity = capacity;
+        }
     }
 }
@@ -2,27 +2,30 @@ package io.github.DKICooked.entities;
 
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
-import com.badlogic.gdx.utils.Array;
 import io.github.DKICooked.audio.SoundPlayer;
+import io.github.DKICooked.gameLogic.WorldManager;
+import io.github.DKICooked.gameLogic.physics.JumpEnvelope;
 import io.github.DKICooked.gameLogic.physics.PhysicsBody;
 import io.github.DKICooked.gameLogic.physics.PlayerPhysicsProcessor;
 
 import static io.github.DKICooked.entities.PowerUpActor.Type.GHOST;
 
 public class PlayerActor extends Actor {
-    private final PhysicsBody body = new PhysicsBody(2000f, 300f, 1300f, -1800f);
+    private final PhysicsBody body = new PhysicsBody(
+        CharacterStats.ACCEL, CharacterStats.BASE_SPEED, CharacterStats.FRICTION, CharacterStats.BASE_GRAVITY);
     private final PlayerPhysicsProcessor physicsProcessor;
-    private Array<Platform> platforms = new Array<>();
+    private WorldManager world;
     private float accumulator = 0f;
-    private static final float STEP = 1f / 180f;
+    private static final int MAX_SUBSTEPS = 5; // after a long frame, drop the backlog instead of snowballing
+    private float prevX, prevY;  // position before the last physics step, for interpolation
+    private float alpha = 1f;    // how far rendering is between prev and current
+    private boolean stepping = false;
     private boolean dead = false;
     private Rectangle collisionRect = new Rectangle();
     private float currentMoveDirection = 0;
 
     //for stats
-    private float jumpForce;      // How high they launch
-    private float gravityScale;   // How heavy they feel
-    private int maxJumps;         // Total jumps allowed (1 for most, 2 for Jerick)
+    private CharacterStats stats = CharacterStats.DEFAULT;
     private int remainingJumps;   // Current jumps available
 
     //For Power ups
@@ -32,7 +35,12 @@ public class PlayerActor extends Actor {
     private float powerUpTimer = 0;
 
     public PlayerActor(SoundPlayer soundPlayer) {
-        this.physicsProcessor = new PlayerPhysicsProcessor(this, body, soundPlayer);
+        this(soundPlayer, PlayerPhysicsProcessor.DEFAULT_STEP_RATE);
+    }
+
+    /** @param stepRate physics updates per second */
+    public PlayerActor(SoundPlayer soundPlayer, int stepRate) {
+        this.physicsProcessor = new PlayerPhysicsProcessor(this, body, soundPlayer, stepRate);
     }
 
     public void handleHorizontalMovement(float direction, float delta) {
@@ -75,43 +83,41 @@ public class PlayerActor extends Actor {
     }
 
     public void initStats(String characterName) {
-        float baseGravity = -1800f;
-        float baseSpeed = 300f;
-
-        switch (characterName) {
-            case "Timothy":
-                this.jumpForce = 1000f;
-                this.gravityScale = 1.0f;
-                this.maxJumps = 1;
-                break;
-
-            case "Alaine":
-                this.jumpForce = 600f;
-                this.gravityScale = 0.4f;
-                this.maxJumps = 1;
-                break;
+        this.stats = CharacterStats.forName(characterName);
+        this.remainingJumps = stats.maxJumps;
 
-            case "Jerick":
-                this.jumpForce = 800f;
-                this.gravityScale = 1.0f;
-                this.maxJumps = 2;
-                break;
+        body.setGravity(stats.getGravity());
+        body.setMaxSpeed(CharacterStats.BASE_SPEED);
+    }
 
-            default:
-                this.jumpForce = 600f;
-                this.gravityScale = 1.0f;
-                this.maxJumps = 1;
-                break;
-        }
+    /** Alive, still and powerless at (x, y), as at the start of a run. Keeps the character's stats. */
+    public void reset(float x, float y) {
+        clearActions();
+        setRotation(0);
+        dead = false;
+        isGhost = hasShield = hasUfo = false;
+        powerUpTimer = 0;
+        remainingJumps = stats.maxJumps;
+        currentMoveDirection = 0;
+        accumulator = 0f;
+        alpha = 1f;
+        body.velocityX = 0f;
+        body.velocityY = 0f;
+        physicsProcessor.reset();
+        setPosition(x, y);
+    }
 
-        this.remainingJumps = this.maxJumps;
+    public CharacterStats getStats() {
+        return stats;
+    }
 
-        body.setGravity(baseGravity * gravityScale);
-        body.setMaxSpeed(baseSpeed);
+    /** Where this player can land from a standing jump, at the rate their physics runs. */
+    public JumpEnvelope getEnvelope() {
+        return stats.getEnvelope(physicsProcessor.getStepRate());
     }
 
     public void resetJumps() {
-        this.remainingJumps = this.maxJumps;
+        this.remainingJumps = stats.maxJumps;
     }
 
     public void useJump() {
@@ -123,12 +129,12 @@ public class PlayerActor extends Actor {
     }
 
     public float getJumpForce() {
-        return this.jumpForce;
+        return stats.jumpForce;
     }
 
     public int getMaxJumps() {
         // If it's Timothy, allow a higher max charge
-        return this.maxJumps;
+        return stats.maxJumps;
     }
 
     public Rectangle getCollisionRect() {
@@ -140,10 +146,19 @@ public class PlayerActor extends Actor {
     public void act(float delta) {
         super.act(delta);
         accumulator += delta;
-        while (accumulator >= STEP) {
-            physicsProcessor.update(STEP, platforms, currentMoveDirection);
-            accumulator -= STEP;
+        float step = physicsProcessor.getStep();
+        int substeps = 0;
+        while (accumulator >= step && substeps < MAX_SUBSTEPS) {
+            prevX = getX();
+            prevY = getY();
+            stepping = true;
+            physicsProcessor.update(step, world, currentMoveDirection);
+            stepping = false;
+            accumulator -= step;
+            substeps++;
         }
+        if (accumulator >= step) accumulator %= step; // lose the time rather than owe it to the next frame
+        alpha = accumulator / step;
 
         if (powerUpTimer > 0) {
             powerUpTimer -= delta;
@@ -153,6 +168,19 @@ public class PlayerActor extends Actor {
         }
     }
 
+    @Override
+    protected void positionChanged() {
+        // Moved from outside the physics step (spawn, death animation): don't smear across the jump
+        if (!stepping) {
+            prevX = getX();
+            prevY = getY();
+        }
+    }
+
+    /** Where to draw the player: between the last two physics states, so motion is smooth at any frame rate. */
+    public float getRenderX() { return prevX + (getX() - prevX) * alpha; }
+    public float getRenderY() { return prevY + (getY() - prevY) * alpha; }
+
     // Delegate getters to the processor
     public void setDead(boolean dead) { this.dead = dead; }
     public boolean isDead() { return dead; }
@@ -162,7 +190,7 @@ public class PlayerActor extends Actor {
     public boolean isFacingRight() { return physicsProcessor.facingRight; }
     public PhysicsBody getBody() { return body; }
 
-    public void setPlatforms(Array<Platform> platforms) {
-        this.platforms = platforms;
+    public void setWorld(WorldManager world) {
+        this.world = world;
     }
 }
@@ -1,92 +1,78 @@
 package io.github.DKICooked.entities;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
 
 public class PlayerSprite {
-    private final Array<Texture> textures = new Array<>();
+    // The art faces left; every frame also gets a mirrored copy up front, so drawing never flips anything
+    private static final int LEFT = 0;
+    private static final int RIGHT = 1;
+
     private float stateTime;
 
-    private final TextureRegion idleRegion;
-    private final TextureRegion jumpRegion;
-    private final TextureRegion chargeReg;
-    private final TextureRegion deathRegion;
-    private final Animation<TextureRegion> walkAnim;
+    private final TextureRegion[] idleRegion;
+    private final TextureRegion[] jumpRegion;
+    private final TextureRegion[] chargeReg;
+    private final TextureRegion[] deathRegion;
+    private final Animation<TextureRegion> walkLeft, walkRight;
 
-    public PlayerSprite(String selection) {
+    /** Frames come from the game atlas, which the caller owns. */
+    public PlayerSprite(String selection, TextureAtlas atlas) {
         // 1. Get the first letter: "Alaine" -> "a", "Jerick" -> "j", "Timothy" -> "t"
         String p = selection.toLowerCase().substring(0, 1);
 
-        // 2. Load the specific textures for that character
-        idleRegion = new TextureRegion(loadTexture(p + "idle.png"));
-        jumpRegion = new TextureRegion(loadTexture(p + "J.png"));
-        chargeReg = new TextureRegion(loadTexture(p + "LC.png"));
-        deathRegion = new TextureRegion(loadTexture(p + "dead.png"));
+        // 2. Look up the specific frames for that character
+        idleRegion = facings(atlas.findRegion(p + "idle"));
+        jumpRegion = facings(atlas.findRegion(p + "J"));
+        chargeReg = facings(atlas.findRegion(p + "LC"));
+        deathRegion = facings(atlas.findRegion(p + "dead"));
 
-        walkAnim = new Animation<>(0.1f,
-            new TextureRegion(loadTexture(p + "W1.png")),
-            new TextureRegion(loadTexture(p + "W2.png")),
-            new TextureRegion(loadTexture(p + "W3.png"))
-        );
+        TextureRegion[] w1 = facings(atlas.findRegion(p + "W1"));
+        TextureRegion[] w2 = facings(atlas.findRegion(p + "W2"));
+        TextureRegion[] w3 = facings(atlas.findRegion(p + "W3"));
+        walkLeft = new Animation<>(0.1f, w1[LEFT], w2[LEFT], w3[LEFT]);
+        walkRight = new Animation<>(0.1f, w1[RIGHT], w2[RIGHT], w3[RIGHT]);
 
         stateTime = 0f;
     }
 
-    private Texture loadTexture(String path) {
-        Texture t = new Texture(Gdx.files.internal(path));
-        textures.add(t);
-        return t;
+    /** {left, right}: the region as drawn, and a mirrored copy. */
+    private static TextureRegion[] facings(TextureRegion left) {
+        TextureRegion right = new TextureRegion(left);
+        right.flip(true, false);
+        return new TextureRegion[] { left, right };
     }
 
     public void draw(Batch batch, PlayerActor player) {
         stateTime += Gdx.graphics.getDeltaTime();
+        int facing = player.isFacingRight() ? RIGHT : LEFT;
         TextureRegion frame;
 
         // ... [Your Priority Logic stays the same] ...
         if (player.isDead()) {
-            frame = deathRegion;
+            frame = deathRegion[facing];
         } else if (player.isCharging()) {
             stateTime = 0f;
-            frame = chargeReg;
+            frame = chargeReg[facing];
         } else if (!player.isGrounded() || Math.abs(player.getBody().velocityY) > 0.1f) {
-            frame = jumpRegion;
+            frame = jumpRegion[facing];
         } else if (Math.abs(player.getBody().velocityX) > 0.5f) {
-            frame = walkAnim.getKeyFrame(stateTime, true);
+            frame = (facing == RIGHT ? walkRight : walkLeft).getKeyFrame(stateTime, true);
         } else {
             stateTime = 0f;
-            frame = idleRegion;
-        }
-
-        // --- NEW FLIP LOGIC FOR LEFT-FACING ART ---
-
-        // 1. Force the frame to its "Natural" state (Facing Left)
-        if (frame.isFlipX()) {
-            frame.flip(true, false);
-        }
-
-        // 2. If the player is moving/facing RIGHT, we must flip the Left-facing art
-        if (player.isFacingRight()) {
-            frame.flip(true, false);
+            frame = idleRegion[facing];
         }
 
         batch.draw(
             frame,
-            player.getX(), player.getY(),
+            player.getRenderX(), player.getRenderY(),
             player.getOriginX(), player.getOriginY(),
             player.getWidth(), player.getHeight(),
             player.getScaleX(), player.getScaleY(),
             player.getRotation()
         );
     }
-
-    public void dispose() {
-        for (Texture t : textures) {
-            t.dispose();
-        }
-        textures.clear();
-    }
 }
@@ -1,32 +1,58 @@
 package io.github.DKICooked.entities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Pool;
 
-public class PowerUpActor extends Actor {
+public class PowerUpActor extends Actor implements Pool.Poolable {
     public enum Type { GHOST, UFO_RIDE, SHIELD }
-    private  final Type type;
-    private final Texture region;
+    private Type type;
+    private TextureRegion region;
+    private Pool<PowerUpActor> pool;
+    private final Rectangle bounds = new Rectangle();
 
-    public PowerUpActor(Type type, Texture  tex, float x, float y){
+    public PowerUpActor() {
+        setSize(42, 42);
+        this.setOrigin(Align.center);
+    }
+
+    /** Places a fresh pickup. Called on every actor taken from the pool. */
+    public PowerUpActor init(Type type, TextureRegion tex, float x, float y) {
         this.type = type;
         this.region = tex;
         setPosition(x, y);
-        setSize(42, 42);
-
-        this.setOrigin(Align.center);
 
+        // Actions come from libGDX's own pools and go back there when cleared in reset()
         this.addAction(Actions.forever(Actions.sequence(
             Actions.moveBy(0, 15, 1.2f, Interpolation.sine), // Move up 15 pixels over 1.2s
             Actions.moveBy(0, -15, 1.2f, Interpolation.sine) // Move back down
         )));
+        return this;
+    }
+
+    public void setPool(Pool<PowerUpActor> pool) {
+        this.pool = pool;
+    }
 
+    @Override
+    public boolean remove() {
+        boolean removed = super.remove();
+        if (removed && pool != null) pool.free(this);
+        return removed;
+    }
+
+    @Override
+    public void reset() {
+        clearActions();
+        setScale(1);
+        type = null;
+        region = null;
     }
 
     public Type getType() { return type; }
@@ -36,6 +62,6 @@ public class PowerUpActor extends Actor {
         batch.draw(region, getX(), getY(), getWidth(), getHeight());
     }
     public Rectangle getBounds() {
-        return new Rectangle(getX(), getY(), getWidth(), getHeight());
+        return bounds.set(getX(), getY(), getWidth(), getHeight());
     }
 }
@@ -1,18 +1,16 @@
 package io.github.DKICooked.entities;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 
 public class UfoManager {
     private float spawnTimer = 0f;
     private final float SPAWN_INTERVAL = 4.0f;
-    private final Animation<TextureRegion> ufoAnim;
     private boolean active = false; // The new flag
+    private final HazardSystem hazards;
 
-    public UfoManager(Animation<TextureRegion> ufoAnim) {
-        this.ufoAnim = ufoAnim;
+    public UfoManager(HazardSystem hazards) {
+        this.hazards = hazards;
     }
 
     public void update(float delta, Stage stage) {
@@ -25,13 +23,11 @@ public class UfoManager {
             float screenBottom = cameraY - 300f;
 
             for (int i = 0; i < count; i++) {
-                UfoActor ufo = new UfoActor(ufoAnim);
                 boolean spawnLeft = MathUtils.randomBoolean();
                 float spawnX = spawnLeft ? -100f : 900f;
                 float spawnY = screenBottom + MathUtils.random(50f, 550f);
 
-                ufo.setPosition(spawnX, spawnY);
-                stage.addActor(ufo);
+                hazards.spawnUfo(spawnX, spawnY);
             }
             spawnTimer = 0;
         }
@@ -0,0 +1,75 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.utils.IntMap;
+import io.github.DKICooked.entities.PlatformStore;
+
+/**
+ * The chunks around the player (one below, the current one, one above) kept in a ring of slots.
+ * Moving one chunk up or down swaps a single slot instead of rebuilding the whole set,
+ * and callers can hold on to this object: it never reallocates.
+ */
+public class ActiveWindow {
+    public static final int SIZE = 3;
+    private static final PlatformStore EMPTY = new PlatformStore(); // stands in below chunk 0
+
+    private final Chunk[] slots = new Chunk[SIZE];
+    private int head = 0;   // slot holding the bottom chunk
+    private int center = 0; // chunk index in the middle of the window
+    private boolean filled = false;
+
+    /** Slides the window so {@code newCenter} is in the middle. The chunks it needs must already be in {@code chunks}. */
+    void moveTo(int newCenter, IntMap<Chunk> chunks) {
+        int delta = newCenter - center;
+        if (!filled || Math.abs(delta) >= SIZE) {
+            center = newCenter;
+            head = 0;
+            for (int i = 0; i < SIZE; i++) slots[i] = chunks.get(center - 1 + i);
+            filled = true;
+            return;
+        }
+
+        while (delta > 0) {
+            // Old bottom slot becomes the new top
+            center++;
+            slots[head] = chunks.get(center + 1);
+            head = (head + 1) % SIZE;
+            delta--;
+        }
+        while (delta < 0) {
+            // Old top slot becomes the new bottom
+            center--;
+            head = (head + SIZE - 1) % SIZE;
+            slots[head] = chunks.get(center - 1);
+            delta++;
+        }
+    }
+
+    /** Forgets every slot, for when the chunks behind them have gone; the next {@link #moveTo} refills them all. */
+    void clear() {
+        for (int i = 0; i < SIZE; i++) slots[i] = null;
+        head = 0;
+        center = 0;
+        filled = false;
+    }
+
+    /** Bumps every chunk in the window on the LRU clock. */
+    void touch(int clock) {
+        for (Chunk chunk : slots) {
+            if (chunk != null) chunk.lastUsed = clock;
+        }
+    }
+
+    Chunk chunkAt(int i) {
+        return slots[(head + i) % SIZE];
+    }
+
+    public int size() {
+        return SIZE;
+    }
+
+    /** Platforms of the i-th chunk from the bottom. Missing chunks (below the ground) read as empty. */
+    public PlatformStore get(int i) {
+        Chunk chunk = chunkAt(i);
+        return chunk != null ? chunk.platforms : EMPTY;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.DKICooked.entities.PlatformStore;
+
+/**
+ * One CHUNK_HEIGHT slice of the world. Built on the generator thread, read on the render thread,
+ * then handed back to the generator through ChunkPipeline.recycle to be built into again.
+ */
+class Chunk {
+    int index;
+    float yStart;
+    final PlatformStore platforms = new PlatformStore();
+    /** Landing nodes carried in from the chunk below. Together with the run seed this rebuilds the chunk exactly. */
+    final Array<float[]> entrySeeds = new Array<>();
+    final PlatformIndex platformIndex = new PlatformIndex();
+    int lastUsed; // WorldManager's use clock, for LRU eviction
+
+    Chunk(int index, float yStart) {
+        this.index = index;
+        this.yStart = yStart;
+    }
+
+    /** Empties the chunk for reuse as {@code index}; the stores keep their arrays. */
+    void reset(int index, float yStart) {
+        this.index = index;
+        this.yStart = yStart;
+        platforms.clear();
+        entrySeeds.clear();
+        lastUsed = 0;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.DKICooked.gameLogic;
+
+import io.github.DKICooked.entities.PlatformStore;
+
+/** Hears about chunks leaving the world, so anything built from their platforms can be let go. Called on the render thread. */
+public interface ChunkListener {
+    void chunkEvicted(int index, PlatformStore platforms);
+}
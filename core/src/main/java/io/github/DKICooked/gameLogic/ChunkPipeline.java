@@ -0,0 +1,148 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.DKICooked.gameLogic.generationLogic.LevelGenerator;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Builds chunks ahead of the player on a background thread.
+ * The worker owns its LevelGenerator outright and hands finished chunks to the
+ * render thread through a lock-free queue, so crossing a chunk boundary only
+ * picks up work that is already done. Chunks the world is done with come back
+ * through a spare list and are built into again, so their arrays are reused.
+ * That list is an array behind a lock rather than a second queue: handing a chunk
+ * back happens on the render thread, and a queue would allocate a node every time.
+ */
+class ChunkPipeline implements Runnable {
+    private static final long WAIT_NANOS = 200_000L; // 0.2 ms between checks while the render thread waits
+
+    private final LevelGenerator generator;
+    private final float chunkHeight;
+    private final ConcurrentLinkedQueue<Chunk> finished = new ConcurrentLinkedQueue<>();
+    private final Array<Chunk> spare = new Array<>(false, 16); // recycled by the render thread; guarded by itself
+    private final Thread worker;
+
+    private volatile int targetIndex = -1; // highest chunk the worker should build (written by the render thread only)
+    private volatile int builtIndex = -1;  // highest chunk the worker has published
+    private volatile boolean running = true;
+    private volatile boolean restarting = false;
+    private volatile long restartSeed;
+    private volatile Throwable failure;
+
+    private int stalls = 0; // render thread only
+
+    ChunkPipeline(LevelGenerator generator, float chunkHeight) {
+        this.generator = generator;
+        this.chunkHeight = chunkHeight;
+        this.worker = new Thread(this, "chunk-generator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /** Asks the worker to keep building until {@code index} exists. Never blocks. */
+    void requestUpTo(int index) {
+        if (index > targetIndex) {
+            targetIndex = index;
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /** Blocks until {@code index} has been published. Only happens if generation falls behind the player. */
+    void awaitBuilt(int index) {
+        if (builtIndex >= index) return;
+        requestUpTo(index);
+        stalls++;
+        while (builtIndex < index) {
+            rethrowFailure();
+            LockSupport.parkNanos(WAIT_NANOS);
+        }
+    }
+
+    /** Next finished chunk, or null if the worker hasn't published anything new. */
+    Chunk poll() {
+        rethrowFailure();
+        return finished.poll();
+    }
+
+    /** Hands back a chunk the world no longer references, for the worker to build into. */
+    void recycle(Chunk chunk) {
+        synchronized (spare) {
+            spare.add(chunk);
+        }
+    }
+
+    /**
+     * Throws away everything built so far and starts again from chunk 0 with {@code seed}, on the same thread.
+     * Blocks until the worker has switched over, which is at most the rest of the chunk it's on.
+     */
+    void restart(long seed) {
+        targetIndex = -1;
+        restartSeed = seed;
+        restarting = true;
+        LockSupport.unpark(worker);
+        while (restarting) {
+            rethrowFailure();
+            LockSupport.parkNanos(WAIT_NANOS);
+        }
+    }
+
+    int getBuiltIndex() { return builtIndex; }
+    int getStalls() { return stalls; }
+
+    void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    @Override
+    public void run() {
+        int next = 0;
+        Array<float[]> carried = new Array<>(); // exit seeds of the last chunk built
+        while (running) {
+            if (restarting) {
+                generator.setRunSeed(restartSeed);
+                next = 0;
+                carried.clear();
+                Chunk stale;
+                while ((stale = finished.poll()) != null) recycle(stale); // built for the old seed, never collected
+                builtIndex = -1;
+                restarting = false;
+                continue;
+            }
+            if (next > targetIndex) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                Chunk chunk = obtain(next);
+                chunk.entrySeeds.addAll(carried);
+                generator.generateChunk(next, chunk.yStart, chunkHeight, chunk.entrySeeds, carried, chunk.platforms);
+                chunk.platformIndex.build(chunk.platforms);
+                finished.add(chunk);
+                builtIndex = next;
+                next++;
+            } catch (Throwable t) {
+                failure = t;
+                return;
+            }
+        }
+    }
+
+    /** A recycled chunk if there is one, otherwise a new one. */
+    Chunk obtain(int index) {
+        Chunk chunk;
+        synchronized (spare) {
+            chunk = spare.size > 0 ? spare.pop() : null;
+        }
+        if (chunk == null) return new Chunk(index, index * chunkHeight);
+        chunk.reset(index, index * chunkHeight);
+        return chunk;
+    }
+
+    private void rethrowFailure() {
+        if (failure != null) throw new GdxRuntimeException("Chunk generation failed", failure);
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.DKICooked.gameLogic;
+
+import io.github.DKICooked.entities.PlatformStore;
+
+import java.util.Arrays;
+
+/**
+ * Vertical buckets over one chunk's platforms. Platforms never move, so the
+ * buckets are built once with the chunk and only read afterwards. A recycled
+ * chunk builds into the arrays it already has, growing them only when it must.
+ * A platform taller than a row sits in every row it covers; queries report it
+ * once, from the first row shared by the platform and the query.
+ */
+class PlatformIndex {
+    static final float ROW_HEIGHT = 50f;
+
+    private PlatformStore store;
+    private int[] firstRow = new int[0];
+    private int[] lastRow = new int[0];
+
+    private float baseY;
+    private int rows;
+    private int[] rowStart = new int[1]; // entries of row r are rowEntries[rowStart[r] .. rowStart[r + 1])
+    private int[] rowEntries = new int[0];
+    private int[] fill = new int[0];
+
+    void build(PlatformStore store) {
+        this.store = store;
+        int n = store.size;
+        if (n == 0) {
+            rows = 0;
+            return;
+        }
+
+        float minY = Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            minY = Math.min(minY, store.bottom[i]);
+            maxY = Math.max(maxY, store.top[i]);
+        }
+
+        baseY = minY;
+        rows = rowOf(maxY) + 1;
+        if (rowStart.length < rows + 1) {
+            rowStart = new int[rows + 1];
+            fill = new int[rows];
+        } else {
+            Arrays.fill(rowStart, 0, rows + 1, 0);
+            Arrays.fill(fill, 0, rows, 0);
+        }
+        if (firstRow.length < n) {
+            firstRow = new int[n];
+            lastRow = new int[n];
+        }
+
+        for (int i = 0; i < n; i++) {
+            firstRow[i] = rowOf(store.bottom[i]);
+            lastRow[i] = rowOf(store.top[i]);
+            for (int r = firstRow[i]; r <= lastRow[i]; r++) rowStart[r + 1]++;
+        }
+        for (int r = 0; r < rows; r++) rowStart[r + 1] += rowStart[r];
+
+        if (rowEntries.length < rowStart[rows]) rowEntries = new int[rowStart[rows]];
+        for (int i = 0; i < n; i++) {
+            for (int r = firstRow[i]; r <= lastRow[i]; r++) {
+                rowEntries[rowStart[r] + fill[r]++] = i;
+            }
+        }
+    }
+
+    /** Copies every platform whose bounds overlap the given rectangle to the end of {@code out}. */
+    void query(float minX, float minY, float maxX, float maxY, PlatformStore out) {
+        if (rows == 0) return;
+        int r0 = Math.max(rowOf(minY), 0);
+        int r1 = Math.min(rowOf(maxY), rows - 1);
+
+        for (int r = r0; r <= r1; r++) {
+            for (int e = rowStart[r]; e < rowStart[r + 1]; e++) {
+                int i = rowEntries[e];
+                if (Math.max(firstRow[i], r0) != r) continue; // already reported from a lower row
+                if (store.landRight[i] < minX || store.landLeft[i] > maxX) continue;
+                if (store.top[i] < minY || store.bottom[i] > maxY) continue;
+                out.addFrom(store, i);
+            }
+        }
+    }
+
+    private int rowOf(float y) {
+        return (int) Math.floor((y - baseY) / ROW_HEIGHT);
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.DKICooked.gameLogic;
+
+import io.github.DKICooked.entities.PlatformStore;
+
+/** Where player physics gets the platforms it can collide with. The world in the game; a hand-placed store in tests. */
+public interface PlatformQuery {
+    /** Copies the platforms whose bounds overlap the given rectangle to the end of {@code out}. */
+    void queryPlatforms(float minX, float minY, float maxX, float maxY, PlatformStore out);
+}
@@ -1,64 +1,285 @@
 package io.github.DKICooked.gameLogic;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntMap;
-import io.github.DKICooked.entities.Platform;
+import io.github.DKICooked.entities.PlatformStore;
 import io.github.DKICooked.gameLogic.generationLogic.LevelGenerator;
+import io.github.DKICooked.gameLogic.physics.JumpEnvelope;
 
-public class WorldManager {
+public class WorldManager implements PlatformQuery {
     public static final float CHUNK_HEIGHT = 600f;
+    private static final int LOOK_AHEAD = 3; // chunks kept built above the player's chunk
+    private static final int ACTIVE_WINDOW = ActiveWindow.SIZE; // current chunk plus one either side
+    private static final int SEED_HISTORY = 8; // chunks below the player whose entry seeds we keep for rebuilds
+    private static final int SEED_CHECKPOINT = 16; // every this many chunks, entry seeds are kept longer
+    private static final int SEED_CHECKPOINTS_KEPT = 4; // the newest ones; older ones are dropped as the run climbs
 
-    private final LevelGenerator generator = new LevelGenerator();
+    /** How the chunk cache picks what to drop once it is over capacity. */
+    public enum EvictionPolicy {
+        DISTANCE, // farthest from the player's chunk goes first
+        LRU       // least recently part of the active window goes first
+    }
+
+    private long seed;
+    private final JumpEnvelope reach; // what the player can jump, so every chunk is climbable by them
+    private final ChunkPipeline pipeline;
     private final IntMap<Chunk> chunks = new IntMap<>();
-    private final Array<Platform> activePlatforms = new Array<>();
+    private final ActiveWindow activeWindow = new ActiveWindow();
+
+    // ── Chunk cache ───────────────────────────────────────────────────────────
+    private EvictionPolicy evictionPolicy = EvictionPolicy.DISTANCE;
+    private int cacheCapacity = ACTIVE_WINDOW + LOOK_AHEAD + 2;
+    private int useClock = 0;
+    private int evictions = 0;
+    private int rebuilds = 0;
+
+    /** Entry seeds of recent chunks, kept after eviction (and recycling) so they can be rebuilt without replaying the run. */
+    private final IntMap<Array<float[]>> seedHistory = new IntMap<>();
+    /**
+     * Entry seeds of every SEED_CHECKPOINT-th chunk, so a rebuild further down replays at most that many chunks.
+     * Only the last SEED_CHECKPOINTS_KEPT are kept: GameScreen ends the run once the player drops more than a
+     * chunk below their best, so nothing that far down is rebuilt in play, and the map stays a fixed size.
+     */
+    private final IntMap<Array<float[]>> seedCheckpoints = new IntMap<>();
+    private final Array<Array<float[]>> spareSeedLists = new Array<>(); // emptied lists, so collecting a chunk allocates nothing
+    private LevelGenerator rebuildGenerator; // render-thread generator, created on first rebuild
+    private ChunkListener chunkListener;
 
     private int currentChunk = 0;
 
-    public WorldManager() {
+    public WorldManager(JumpEnvelope reach) {
+        this(MathUtils.random.nextLong(), reach);
+    }
+
+    /** Same seed and character, same world: useful for reproducing a layout or benchmarking on identical runs. */
+    public WorldManager(long seed, JumpEnvelope reach) {
+        this.seed = seed;
+        this.reach = reach;
+        this.pipeline = new ChunkPipeline(new LevelGenerator(seed, reach), CHUNK_HEIGHT);
+        // As many lists as can ever be held at once, so the pool never runs dry however high a run climbs:
+        // the history from SEED_HISTORY below the player up to the look-ahead, one more chunk either end
+        // until it's trimmed, and up to SEED_CHECKPOINTS_KEPT + 1 checkpoints the history has let go of
+        int mostHeld = SEED_HISTORY + LOOK_AHEAD + 2 + SEED_CHECKPOINTS_KEPT + 1;
+        for (int i = 0; i < mostHeld; i++) spareSeedLists.add(new Array<>());
+        startRun();
+    }
+
+    /**
+     * Starts a new world with {@code seed} for the same character, in place. The generator thread keeps
+     * running and every resident chunk goes back to it to be built into again; only the layout starts over.
+     */
+    public void reset(long seed) {
+        this.seed = seed;
+        pipeline.restart(seed);
+        if (rebuildGenerator != null) rebuildGenerator.setRunSeed(seed);
+
+        for (Chunk chunk : chunks.values()) {
+            if (chunkListener != null) chunkListener.chunkEvicted(chunk.index, chunk.platforms);
+            pipeline.recycle(chunk);
+        }
+        chunks.clear();
+        for (IntMap.Entry<Array<float[]>> entry : seedHistory) {
+            if (seedCheckpoints.get(entry.key) != entry.value) releaseSeeds(entry.value);
+        }
+        for (Array<float[]> seeds : seedCheckpoints.values()) releaseSeeds(seeds);
+        seedHistory.clear();
+        seedCheckpoints.clear();
+        activeWindow.clear();
+        currentChunk = 0;
+        useClock = 0;
+        evictions = 0;
+        rebuilds = 0;
+        startRun();
+    }
+
+    private void startRun() {
+        pipeline.requestUpTo(LOOK_AHEAD);
         generateNearbyChunks(0);
-        refreshActivePlatforms();
+        slideActiveWindow();
+    }
+
+    /**
+     * Bounds how many chunks stay resident. The active window and the look-ahead
+     * chunks are never evicted, so capacity is clamped to cover at least those.
+     */
+    public void setCachePolicy(EvictionPolicy policy, int capacity) {
+        this.evictionPolicy = policy;
+        this.cacheCapacity = Math.max(capacity, ACTIVE_WINDOW + LOOK_AHEAD);
+        evictChunks();
     }
 
     public void update(float playerY) {
         int playerChunk = (int) (playerY / CHUNK_HEIGHT);
 
+        pipeline.requestUpTo(Math.max(playerChunk, 0) + LOOK_AHEAD);
+        collectFinishedChunks();
+
         if (playerChunk != currentChunk) {
             currentChunk = playerChunk;
             generateNearbyChunks(currentChunk);
-            refreshActivePlatforms();
+            slideActiveWindow();
+            trimSeedHistory();
         }
+        evictChunks();
     }
 
     public void generateNearbyChunks(int index) {
-        getOrCreateChunk(index - 1); // For falling safety
-        getOrCreateChunk(index);
-        getOrCreateChunk(index + 1);
+        requireChunk(index - 1); // For falling safety
+        requireChunk(index);
+        requireChunk(index + 1);
     }
 
-    private void getOrCreateChunk(int index) {
+    private void requireChunk(int index) {
         if (index < 0 || chunks.containsKey(index)) return;
-        Chunk chunk = new Chunk(index, index * CHUNK_HEIGHT);
-        chunk.platforms.addAll(generator.generateChunk(chunk.yStart, CHUNK_HEIGHT));
-        chunks.put(index, chunk);
+
+        int built = pipeline.getBuiltIndex(); // read before draining, so everything up to it is in the map now
+        collectFinishedChunks();
+        if (chunks.containsKey(index)) return;
+
+        if (index <= built) {
+            // Built before and evicted since: the player fell back into it
+            rebuildChunk(index);
+            return;
+        }
+        // Normally already built by the worker; this only waits when the player outruns it
+        pipeline.awaitBuilt(index);
+        collectFinishedChunks();
+    }
+
+    private void collectFinishedChunks() {
+        Chunk chunk;
+        while ((chunk = pipeline.poll()) != null) {
+            chunk.lastUsed = ++useClock;
+            chunks.put(chunk.index, chunk);
+            // Copies: the chunk's own list is cleared when it's recycled
+            Array<float[]> entrySeeds = spareSeedLists.size > 0 ? spareSeedLists.pop() : new Array<>();
+            entrySeeds.addAll(chunk.entrySeeds);
+            seedHistory.put(chunk.index, entrySeeds);
+            if (chunk.index % SEED_CHECKPOINT == 0) {
+                seedCheckpoints.put(chunk.index, entrySeeds);
+                int dropped = chunk.index - SEED_CHECKPOINT * SEED_CHECKPOINTS_KEPT;
+                Array<float[]> old = seedCheckpoints.remove(dropped);
+                if (old != null && old != seedHistory.get(dropped)) releaseSeeds(old);
+            }
+        }
+    }
+
+    private void slideActiveWindow() {
+        activeWindow.moveTo(currentChunk, chunks);
+        activeWindow.touch(++useClock);
     }
 
-    public void refreshActivePlatforms() {
-        activePlatforms.clear();
-        // Check -1, 0, and 1
-        for (int i = currentChunk - 1; i <= currentChunk + 1; i++) {
-            if (chunks.containsKey(i)) {
-                activePlatforms.addAll(chunks.get(i).platforms);
+    // ── Eviction / rebuild ────────────────────────────────────────────────────
+
+    private void evictChunks() {
+        while (chunks.size > cacheCapacity) {
+            Chunk victim = null;
+            for (Chunk chunk : chunks.values()) {
+                if (isPinned(chunk.index)) continue;
+                if (victim == null || evictsBefore(chunk, victim)) victim = chunk;
             }
+            if (victim == null) return; // everything left is pinned
+            chunks.remove(victim.index);
+            evictions++;
+            if (chunkListener != null) chunkListener.chunkEvicted(victim.index, victim.platforms);
+            pipeline.recycle(victim);
+        }
+    }
+
+    private boolean isPinned(int index) {
+        return index >= currentChunk - 1 && index <= currentChunk + LOOK_AHEAD;
+    }
+
+    private boolean evictsBefore(Chunk a, Chunk b) {
+        if (evictionPolicy == EvictionPolicy.LRU) return a.lastUsed < b.lastUsed;
+        return Math.abs(a.index - currentChunk) > Math.abs(b.index - currentChunk);
+    }
+
+    private void trimSeedHistory() {
+        for (int i = currentChunk - SEED_HISTORY - 1; i >= 0; i--) {
+            Array<float[]> seeds = seedHistory.remove(i);
+            if (seeds == null) break;
+            if (seeds != seedCheckpoints.get(i)) releaseSeeds(seeds); // checkpoints share the history's list
+        }
+    }
+
+    private void releaseSeeds(Array<float[]> seeds) {
+        seeds.clear();
+        spareSeedLists.add(seeds);
+    }
+
+    private void rebuildChunk(int index) {
+        if (rebuildGenerator == null) rebuildGenerator = new LevelGenerator(seed, reach);
+
+        Array<float[]> entrySeeds = seedHistory.get(index);
+        if (entrySeeds == null) entrySeeds = replaySeeds(index);
+
+        Chunk chunk = pipeline.obtain(index);
+        chunk.entrySeeds.addAll(entrySeeds);
+        rebuildGenerator.generateChunk(index, chunk.yStart, CHUNK_HEIGHT, chunk.entrySeeds, new Array<>(), chunk.platforms);
+        // The player already passed through here, so don't hand out the pickups a second time
+        chunk.platforms.clearPowerUps();
+        chunk.platformIndex.build(chunk.platforms);
+
+        chunk.lastUsed = ++useClock;
+        chunks.put(index, chunk);
+        rebuilds++;
+    }
+
+    /**
+     * Regenerates the seed chain up from the nearest checkpoint below {@code index}.
+     * Only needed for chunks below the seed history, and never more than SEED_CHECKPOINT - 1 chunks of work,
+     * unless that checkpoint has been dropped too; then it replays from chunk 0, slowly but to the same seeds.
+     */
+    private Array<float[]> replaySeeds(int index) {
+        int from = index - index % SEED_CHECKPOINT;
+        Array<float[]> checkpoint = seedCheckpoints.get(from);
+        if (checkpoint == null) from = 0; // chunk 0 has no entry seeds, so an empty chain starts it
+        Array<float[]> carried = checkpoint == null ? new Array<>() : new Array<>(checkpoint);
+        Array<float[]> entry = new Array<>();
+        PlatformStore scratch = new PlatformStore();
+        for (int i = from; i < index; i++) {
+            entry.clear();
+            entry.addAll(carried);
+            scratch.clear();
+            rebuildGenerator.generateChunk(i, i * CHUNK_HEIGHT, CHUNK_HEIGHT, entry, carried, scratch);
         }
+        return carried;
     }
 
-    public Array<Platform> getActivePlatforms() { return activePlatforms; }
+    /**
+     * Copies the active platforms whose bounds overlap the given rectangle into {@code out}
+     * (which is not cleared first). Only the rows of the chunks the rectangle touches are visited.
+     */
+    @Override
+    public void queryPlatforms(float minX, float minY, float maxX, float maxY, PlatformStore out) {
+        for (int i = 0; i < ActiveWindow.SIZE; i++) {
+            Chunk chunk = activeWindow.chunkAt(i);
+            if (chunk != null) chunk.platformIndex.query(minX, minY, maxX, maxY, out);
+        }
+    }
+
+    public void setChunkListener(ChunkListener listener) { this.chunkListener = listener; }
+
+    /** The chunks around the player, bottom to top. The same instance for the whole run. */
+    public ActiveWindow getActivePlatforms() { return activeWindow; }
     public int getCurrentChunk() { return currentChunk; }
+    public long getSeed() { return seed; }
+
+    /** How many chunks above the player are already built. */
+    public int getGenerationLead() { return pipeline.getBuiltIndex() - currentChunk; }
+
+    /** How many times the render thread had to wait for the generator. Beyond the initial build this should stay flat. */
+    public int getGenerationStalls() { return pipeline.getStalls(); }
+
+    public int getResidentChunks() { return chunks.size; }
+    /** The most chunks kept resident, and so the most a {@link ChunkListener} hears about before one is evicted. */
+    public int getCacheCapacity() { return cacheCapacity; }
+    public int getEvictions() { return evictions; }
+    public int getRebuilds() { return rebuilds; }
 
-    private static class Chunk {
-        int index;
-        float yStart;
-        Array<Platform> platforms = new Array<>();
-        Chunk(int index, float yStart) { this.index = index; this.yStart = yStart; }
+    public void dispose() {
+        pipeline.stop();
     }
 }
@@ -1,17 +1,20 @@
 package io.github.DKICooked.gameLogic.generationLogic;
 
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
-import io.github.DKICooked.entities.Platform;
+import io.github.DKICooked.entities.PlatformStore;
 import io.github.DKICooked.entities.PowerUpActor;
+import io.github.DKICooked.gameLogic.physics.JumpEnvelope;
 
 public class LevelGenerator {
 
     // ── Screen / jump constants ───────────────────────────────────────────────
     private static final float SCREEN_WIDTH  = 800f;
     private static final float MARGIN        = 100f;   // min X from edge
-    private static final float MAX_JUMP_H    = 200;
+    private static final float MAX_JUMP_H    = 200;    // preferred hop size; capped by what the character can do
     private static final float MAX_JUMP_W    = 300f;
+    private static final float LANDING_SLACK = 15f;    // don't ask for jumps right at the edge of the envelope
     private static final float TILE_SIZE     = 40f;
     private static final float PLATFORM_HALF = TILE_SIZE * 1.5f; // half-width of a platform (3 tiles)
 
@@ -25,225 +28,248 @@ public class LevelGenerator {
     private static final float CHUNK_TOP_MARGIN  = 150f; // stop seeding this close to top
     private static final int   CANDIDATE_TRIES   = 10;   // retries per node placement
 
-    // ── State carried between chunks ──────────────────────────────────────────
-    /** Landing nodes from the top of the previous chunk — seed for the next one. */
-    private final Array<float[]> seedNodes = new Array<>(); // each entry: {x, y}
+    // ── Seeding ───────────────────────────────────────────────────────────────
+    private long runSeed;
+
+    // ── Reach ─────────────────────────────────────────────────────────────────
+    private final JumpEnvelope reach; // centre-to-centre, so a platform's half-width counts as free distance
+    private final float jumpH;
+    private final float jumpW;
+
+    /** Re-seeded from (runSeed, chunkIndex) at the start of every chunk. */
+    private final RandomXS128 random = new RandomXS128();
+
+    // ── Scratch state, reused across chunks ───────────────────────────────────
+    private final NodeBuffer nodes = new NodeBuffer();
+    private float candidateX, candidateY; // written by generateCandidate
+    private float placedX, placedY;       // written by placeNode
 
     // ─────────────────────────────────────────────────────────────────────────
 
-    public Array<Platform> generateChunk(float chunkYStart, float chunkHeight) {
-        Array<Platform> platforms = new Array<>();
+    public LevelGenerator(long runSeed, JumpEnvelope envelope) {
+        this.runSeed = runSeed;
+        this.reach = envelope.withMargin(PLATFORM_HALF, LANDING_SLACK);
+        this.jumpH = Math.min(MAX_JUMP_H, reach.getMaxRise());
+        this.jumpW = Math.min(MAX_JUMP_W, reach.getMaxReach());
+    }
+
+    public long getRunSeed() { return runSeed; }
+
+    /** Switches to another run's seed. Nothing from the old run is kept; every chunk is seeded from scratch anyway. */
+    public void setRunSeed(long runSeed) { this.runSeed = runSeed; }
+
+    /**
+     * Builds one chunk. The result depends only on the run seed, the chunk index and
+     * {@code entrySeeds} (the landing nodes carried up from the chunk below, each {x, y}),
+     * so the same inputs always give the same platforms, on any thread and in any order.
+     * Platforms are appended to {@code platforms}; the topmost nodes of this chunk are
+     * written to {@code exitSeeds} for the next one.
+     */
+    public void generateChunk(int chunkIndex, float chunkYStart, float chunkHeight,
+                              Array<float[]> entrySeeds, Array<float[]> exitSeeds, PlatformStore platforms) {
+        random.setSeed(chunkSeed(runSeed, chunkIndex));
+
         float chunkTop = chunkYStart + chunkHeight;
 
+        nodes.clear();
+
         // ── Ground chunk (first ever) ─────────────────────────────────────────
-        if (chunkYStart == 0) {
-            platforms.add(new Platform(0, 50, SCREEN_WIDTH, 50));
-            seedNodes.clear();
-            seedNodes.add(new float[]{250f, 80f});
-            seedNodes.add(new float[]{550f, 80f});
+        if (chunkIndex == 0) {
+            platforms.addSlab(0, SCREEN_WIDTH, 50, 10f, null);
+            nodes.add(250f, 80f);
+            nodes.add(550f, 80f);
+        } else {
+            for (int i = 0; i < entrySeeds.size; i++) nodes.add(entrySeeds.get(i)[0], entrySeeds.get(i)[1]);
         }
 
         // ── Pick a layout theme for this chunk ────────────────────────────────
-        ChunkTheme theme = ChunkTheme.random();
+        ChunkTheme theme = ChunkTheme.random(random);
 
         // ── Build node graph ──────────────────────────────────────────────────
-        Array<float[]> allNodes = new Array<>();
-        for (float[] s : seedNodes) allNodes.add(s);
-
-        Array<float[]> newNodes = new Array<>();
+        int firstNew = nodes.size; // nodes from here on belong to this chunk
 
         int target = NODES_PER_CHUNK + theme.extraNodes;
         for (int i = 0; i < target; i++) {
-            float[] node = placeNode(allNodes, chunkYStart, chunkTop, theme);
-            if (node != null) {
-                allNodes.add(node);
-                newNodes.add(node);
-            }
+            if (placeNode(chunkYStart, chunkTop, theme)) nodes.add(placedX, placedY);
         }
 
-        // ── Turn nodes into Platform objects ──────────────────────────────────
-        for (float[] node : newNodes) {
-            float cx = node[0];
-            float cy = node[1];
-            Platform p = new Platform(cx - PLATFORM_HALF, cy, cx + PLATFORM_HALF, cy);
-            p.thickness = MathUtils.randomBoolean(0.3f) ? TILE_SIZE * 1.5f : TILE_SIZE;
+        // ── Turn nodes into platforms ─────────────────────────────────────────
+        for (int n = firstNew; n < nodes.size; n++) {
+            float cx = nodes.x[n];
+            float cy = nodes.y[n];
+            float thickness = randomBoolean(0.3f) ? TILE_SIZE * 1.5f : TILE_SIZE;
 
-            if (MathUtils.randomBoolean(0.12f)) {
+            PowerUpActor.Type powerUp = null;
+            if (randomBoolean(0.12f)) {
                 // Flip a coin: heads it's a Ghost, tails it's a UFO
-                if (MathUtils.randomBoolean()) {
-                    p.powerUpType = PowerUpActor.Type.GHOST;
+                if (randomBoolean()) {
+                    powerUp = PowerUpActor.Type.GHOST;
                 } else {
-                    p.powerUpType = PowerUpActor.Type.UFO_RIDE;
+                    powerUp = PowerUpActor.Type.UFO_RIDE;
                 }
             }
-            platforms.add(p);
+            platforms.addSlab(cx - PLATFORM_HALF, cx + PLATFORM_HALF, cy, thickness, powerUp);
         }
 
         // ── Wall placement (safe: only when alternate route exists) ───────────
-        placeWalls(platforms, newNodes, allNodes);
+        placeWalls(platforms, firstNew);
 
         // ── Seed next chunk from the topmost nodes ────────────────────────────
-        seedNodes.clear();
-        Array<float[]> sorted = new Array<>(newNodes);
-        sorted.sort((a, b) -> Float.compare(b[1], a[1])); // descending Y
-        int seedCount = Math.min(3, sorted.size);
-        for (int i = 0; i < seedCount; i++) seedNodes.add(sorted.get(i));
-        if (seedNodes.size == 0) { // fallback — shouldn't happen
-            seedNodes.add(new float[]{SCREEN_WIDTH / 2f, chunkTop - CHUNK_TOP_MARGIN});
+        exitSeeds.clear();
+        int seedCount = Math.min(3, nodes.size - firstNew);
+        int prev = -1;
+        for (int i = 0; i < seedCount; i++) {
+            // Next highest after prev; ties keep placement order
+            int top = -1;
+            for (int n = firstNew; n < nodes.size; n++) {
+                if (prev != -1 && !isBelowInOrder(n, prev)) continue;
+                if (top == -1 || isBelowInOrder(top, n)) top = n;
+            }
+            exitSeeds.add(new float[]{nodes.x[top], nodes.y[top]});
+            prev = top;
         }
+        if (exitSeeds.size == 0) { // fallback — shouldn't happen
+            exitSeeds.add(new float[]{SCREEN_WIDTH / 2f, chunkTop - CHUNK_TOP_MARGIN});
+        }
+    }
 
-        return platforms;
+    /** Seed order: higher nodes first, earlier-placed first among equals. Is {@code a} after {@code b}? */
+    private boolean isBelowInOrder(int a, int b) {
+        float ya = nodes.y[a];
+        float yb = nodes.y[b];
+        return ya < yb || (ya == yb && a > b);
     }
 
     // ── Node placement ────────────────────────────────────────────────────────
 
-    private float[] placeNode(Array<float[]> existing, float chunkYStart, float chunkTop, ChunkTheme theme) {
+    /** Picks the best of a few candidates and leaves it in placedX/placedY. False if nothing fits. */
+    private boolean placeNode(float chunkYStart, float chunkTop, ChunkTheme theme) {
         float bestScore = Float.NEGATIVE_INFINITY;
-        float[] best = null;
+        boolean found = false;
 
         for (int t = 0; t < CANDIDATE_TRIES; t++) {
-            float[] candidate = generateCandidate(existing, chunkYStart, chunkTop, theme);
-            if (candidate == null) continue;
-            if (!isReachable(candidate, existing)) continue;
-            if (isTooClose(candidate, existing)) continue;
+            if (!generateCandidate(chunkYStart, chunkTop, theme)) continue;
+            if (!isReachable(candidateX, candidateY)) continue;
+            if (isTooClose(candidateX, candidateY)) continue;
 
-            float score = scoreCandidate(candidate, existing, chunkTop, theme);
+            float score = scoreCandidate(candidateX, candidateY, theme);
             if (score > bestScore) {
                 bestScore = score;
-                best = candidate;
+                placedX = candidateX;
+                placedY = candidateY;
+                found = true;
             }
         }
 
-        if (best != null) return best;
+        if (found) return true;
 
         // Fallback: guaranteed reachable node directly above the highest existing node
-        float[] highest = existing.get(0);
-        for (float[] n : existing) if (n[1] > highest[1]) highest = n;
+        int highest = nodes.highest;
 
-        float fallbackX = MathUtils.clamp(
-            highest[0] + MathUtils.random(-MAX_JUMP_W * 0.6f, MAX_JUMP_W * 0.6f),
+        placedX = MathUtils.clamp(
+            nodes.x[highest] + random(-jumpW * 0.6f, jumpW * 0.6f),
             MARGIN + PLATFORM_HALF, SCREEN_WIDTH - MARGIN - PLATFORM_HALF
         );
-        float fallbackY = highest[1] + MathUtils.random(MIN_STEP_Y, MAX_JUMP_H * 0.85f);
+        placedY = nodes.y[highest] + random(MIN_STEP_Y, jumpH * 0.85f);
 
-        if (fallbackY > chunkTop - CHUNK_TOP_MARGIN) return null;
-        return new float[]{fallbackX, fallbackY};
+        return placedY <= chunkTop - CHUNK_TOP_MARGIN;
     }
 
-    private float[] generateCandidate(Array<float[]> existing, float chunkYStart, float chunkTop, ChunkTheme theme) {
-        if (existing.size == 0) return null;
+    /** Writes a candidate to candidateX/candidateY. False if it falls outside the chunk. */
+    private boolean generateCandidate(float chunkYStart, float chunkTop, ChunkTheme theme) {
+        if (nodes.size == 0) return false;
 
         // Pick a random existing node as the jump-off point
-        float[] from = existing.get(MathUtils.random(Math.max(0, existing.size - 4), existing.size - 1));
-
-        float jumpFrac = MathUtils.random(0.5f, 1.0f);
-        float dy = MIN_STEP_Y + (MAX_JUMP_H - MIN_STEP_Y) * jumpFrac * theme.verticalBias;
-        float dx = MAX_JUMP_W * MathUtils.random(0.3f, 0.9f) * (MathUtils.randomBoolean() ? 1 : -1) * theme.horizontalBias;
+        int from = random(Math.max(0, nodes.size - 4), nodes.size - 1);
 
-        float nx = MathUtils.clamp(from[0] + dx, MARGIN + PLATFORM_HALF, SCREEN_WIDTH - MARGIN - PLATFORM_HALF);
-        float ny = from[1] + dy;
+        float jumpFrac = random(0.5f, 1.0f);
+        float dy = MIN_STEP_Y + (jumpH - MIN_STEP_Y) * jumpFrac * theme.verticalBias;
+        float dx = jumpW * random(0.3f, 0.9f) * (randomBoolean() ? 1 : -1) * theme.horizontalBias;
 
-        if (ny > chunkTop - CHUNK_TOP_MARGIN) return null;
-        if (ny < chunkYStart) return null;
+        candidateX = MathUtils.clamp(nodes.x[from] + dx, MARGIN + PLATFORM_HALF, SCREEN_WIDTH - MARGIN - PLATFORM_HALF);
+        candidateY = nodes.y[from] + dy;
 
-        return new float[]{nx, ny};
+        if (candidateY > chunkTop - CHUNK_TOP_MARGIN) return false;
+        return candidateY >= chunkYStart;
     }
 
     /** Physics-based check: is this node reachable from at least one existing node below it? */
-    private boolean isReachable(float[] node, Array<float[]> existing) {
-        for (float[] other : existing) {
-            if (other[1] >= node[1]) continue; // must be below
-            float dy = node[1] - other[1];
-            float dx = Math.abs(node[0] - other[0]);
-            if (dy <= MAX_JUMP_H && dx <= MAX_JUMP_W) return true;
-        }
-        return false;
+    private boolean isReachable(float x, float y) {
+        return nodes.canReach(x, y, reach, -1, -1);
     }
 
-    private boolean isTooClose(float[] node, Array<float[]> existing) {
-        for (float[] other : existing) {
-            float dx = Math.abs(node[0] - other[0]);
-            float dy = Math.abs(node[1] - other[1]);
-            // Only reject if they'd visually overlap
-            if (dx < PLATFORM_HALF * 2 + 10f && dy < TILE_SIZE + 5f) return true;
-        }
-        return false;
+    private boolean isTooClose(float x, float y) {
+        // Only reject if they'd visually overlap
+        return nodes.anyWithin(x, y, PLATFORM_HALF * 2 + 10f, TILE_SIZE + 5f);
     }
 
     /** Score encourages spread, variety, and staying in-theme. */
-    private float scoreCandidate(float[] node, Array<float[]> existing, float chunkTop, ChunkTheme theme) {
+    private float scoreCandidate(float x, float y, ChunkTheme theme) {
         float score = 0f;
 
         // Reward distance from existing nodes (spread)
-        float minDist = Float.MAX_VALUE;
-        for (float[] other : existing) {
-            float d = dst(node, other);
-            if (d < minDist) minDist = d;
-        }
-        score += minDist * 0.5f;
+        score += nodes.nearestDistance(x, y) * 0.5f;
 
         // Reward being away from screen edges
-        float edgeDist = Math.min(node[0] - MARGIN, SCREEN_WIDTH - MARGIN - node[0]);
+        float edgeDist = Math.min(x - MARGIN, SCREEN_WIDTH - MARGIN - x);
         score += edgeDist * theme.edgeBias;
 
         // Reward height progress
-        score += node[1] * 0.3f;
+        score += y * 0.3f;
 
         return score;
     }
 
     // ── Wall placement ────────────────────────────────────────────────────────
 
-    private void placeWalls(Array<Platform> platforms, Array<float[]> newNodes, Array<float[]> allNodes) {
-        for (float[] node : newNodes) {
-            if (!MathUtils.randomBoolean(0.28f)) continue;
+    private void placeWalls(PlatformStore platforms, int firstNew) {
+        for (int n = firstNew; n < nodes.size; n++) {
+            if (!randomBoolean(0.28f)) continue;
 
             // Only place a wall if the player has an alternate route to the node above
-            float[] nodeAbove = findNearestAbove(node, allNodes);
-            if (nodeAbove == null) continue;
-            if (!hasAlternateRoute(node, nodeAbove, allNodes)) continue;
+            int above = nodes.nearestAbove(n);
+            if (above == -1) continue;
+            if (!hasAlternateRoute(n, above)) continue;
 
             // Place wall on whichever side of the platform is less obstructive
-            float wallX = MathUtils.randomBoolean() ? node[0] + PLATFORM_HALF : node[0] - PLATFORM_HALF;
+            float wallX = randomBoolean() ? nodes.x[n] + PLATFORM_HALF : nodes.x[n] - PLATFORM_HALF;
             wallX = MathUtils.clamp(wallX, MARGIN, SCREEN_WIDTH - MARGIN);
 
-            float wallHeight = TILE_SIZE * MathUtils.random(2, 3);
-            float baseY = node[1]; // sits on top of the platform surface
-            platforms.add(new Platform(wallX, baseY, wallX, baseY + wallHeight));
+            float wallHeight = TILE_SIZE * random(2, 3);
+            float baseY = nodes.y[n]; // sits on top of the platform surface
+            platforms.addWall(wallX, baseY, baseY + wallHeight);
         }
     }
 
-    private float[] findNearestAbove(float[] node, Array<float[]> allNodes) {
-        float[] best = null;
-        float bestDy = Float.MAX_VALUE;
-        for (float[] other : allNodes) {
-            float dy = other[1] - node[1];
-            if (dy > 0 && dy < bestDy) {
-                bestDy = dy;
-                best = other;
-            }
-        }
-        return best;
+    /** Returns true if there is at least one node that can reach {@code above} WITHOUT going through {@code node}. */
+    private boolean hasAlternateRoute(int node, int above) {
+        return nodes.canReach(nodes.x[above], nodes.y[above], reach, node, above);
     }
 
-    /** Returns true if there is at least one node that can reach nodeAbove WITHOUT going through node. */
-    private boolean hasAlternateRoute(float[] node, float[] nodeAbove, Array<float[]> allNodes) {
-        for (float[] other : allNodes) {
-            if (other == node || other == nodeAbove) continue;
-            if (other[1] >= nodeAbove[1]) continue;
-            float dy = nodeAbove[1] - other[1];
-            float dx = Math.abs(nodeAbove[0] - other[0]);
-            if (dy <= MAX_JUMP_H && dx <= MAX_JUMP_W) return true;
-        }
-        return false;
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    /** SplitMix64 finaliser, so neighbouring chunk indices get unrelated streams. */
+    static long chunkSeed(long runSeed, int chunkIndex) {
+        long z = runSeed + (chunkIndex + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
-    // ── Helpers ───────────────────────────────────────────────────────────────
+    private float random(float start, float end) {
+        return start + random.nextFloat() * (end - start);
+    }
+
+    private int random(int start, int end) {
+        return start + random.nextInt(end - start + 1);
+    }
+
+    private boolean randomBoolean() {
+        return random.nextBoolean();
+    }
 
-    private float dst(float[] a, float[] b) {
-        float dx = a[0] - b[0];
-        float dy = a[1] - b[1];
-        return (float) Math.sqrt(dx * dx + dy * dy);
+    private boolean randomBoolean(float chance) {
+        return random.nextFloat() < chance;
     }
 
     // ── Chunk themes ─────────────────────────────────────────────────────────
@@ -267,9 +293,9 @@ public class LevelGenerator {
             this.edgeBias       = edgeBias;
         }
 
-        static ChunkTheme random() {
+        static ChunkTheme random(RandomXS128 random) {
             ChunkTheme[] values = values();
-            return values[MathUtils.random(values.length - 1)];
+            return values[random.nextInt(values.length)];
         }
     }
 }
@@ -0,0 +1,86 @@
+package io.github.DKICooked.gameLogic.generationLogic;
+
+import io.github.DKICooked.gameLogic.physics.JumpEnvelope;
+
+import java.util.Arrays;
+
+/**
+ * The generator's node graph for one chunk: node positions packed into parallel float arrays,
+ * in insertion order. Reused from chunk to chunk; once the arrays have grown to fit a chunk
+ * nothing is allocated.
+ * <p>
+ * A chunk holds at most ten nodes (three entry seeds plus what one theme places), so every query is
+ * a straight pass over the arrays. That beats any spatial structure at this size.
+ */
+class NodeBuffer {
+    int size;
+    float[] x = new float[32];
+    float[] y = new float[32];
+    int highest = -1; // first node with the greatest y
+
+    void clear() {
+        size = 0;
+        highest = -1;
+    }
+
+    void add(float nx, float ny) {
+        if (size == x.length) grow(size * 2);
+        int i = size++;
+        x[i] = nx;
+        y[i] = ny;
+        if (highest == -1 || ny > y[highest]) highest = i;
+    }
+
+    // ── Queries ───────────────────────────────────────────────────────────────
+
+    /** Is there a node strictly below (tx, ty), other than {@code skipA}/{@code skipB}, that can jump to it? */
+    boolean canReach(float tx, float ty, JumpEnvelope reach, int skipA, int skipB) {
+        for (int j = 0; j < size; j++) {
+            if (j == skipA || j == skipB) continue;
+            if (y[j] >= ty) continue; // must be below
+            if (reach.canReach(tx - x[j], ty - y[j])) return true;
+        }
+        return false;
+    }
+
+    /** Is any node closer than {@code halfW} horizontally and {@code halfH} vertically? */
+    boolean anyWithin(float px, float py, float halfW, float halfH) {
+        for (int j = 0; j < size; j++) {
+            if (Math.abs(px - x[j]) < halfW && Math.abs(py - y[j]) < halfH) return true;
+        }
+        return false;
+    }
+
+    /** Distance to the closest node. {@code Float.MAX_VALUE} when empty. */
+    float nearestDistance(float px, float py) {
+        if (size == 0) return Float.MAX_VALUE;
+
+        float bestSq = Float.MAX_VALUE; // squared, so the sqrt is paid once
+        for (int j = 0; j < size; j++) {
+            float dx = px - x[j];
+            float dy = py - y[j];
+            bestSq = Math.min(bestSq, dx * dx + dy * dy);
+        }
+        return (float) Math.sqrt(bestSq);
+    }
+
+    /** The node with the smallest positive rise above node {@code i} (earliest on ties), or -1. */
+    int nearestAbove(int i) {
+        float fromY = y[i];
+        int best = -1;
+        float bestDy = Float.MAX_VALUE;
+        for (int j = 0; j < size; j++) {
+            float dy = y[j] - fromY;
+            if (dy > 0 && dy < bestDy) {
+                bestDy = dy;
+                best = j;
+            }
+        }
+        return best;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.DKICooked.gameLogic.physics;
+
+import io.github.DKICooked.entities.CharacterStats;
+
+import java.util.Arrays;
+
+/**
+ * How high a character can land at each horizontal distance from where they jumped.
+ * Built once per character by stepping a real {@link PhysicsBody} the same way
+ * {@link PlayerPhysicsProcessor} does (full charge, steering one way the whole time,
+ * plus the best-timed mid-air jump for characters that have one), then kept as a
+ * small table so lookups are just an array read.
+ */
+public final class JumpEnvelope {
+    private static final float BIN = 10f;          // horizontal resolution of the table
+    private static final float MAX_DX = 800f;      // a whole screen width
+    private static final float DROP_LIMIT = 600f;  // stop following a jump once it has fallen this far
+    private static final int BINS = (int) (MAX_DX / BIN) + 1;
+
+    private final float[] rise = new float[BINS]; // rise[b]: highest landing height at distance b * BIN
+    private float maxReach;                        // furthest distance that still lands above the start
+
+    private JumpEnvelope() {
+    }
+
+    /** Simulates at {@code stepRate} physics updates per second, which should be the rate the player runs at. */
+    public static JumpEnvelope simulate(CharacterStats stats, int stepRate) {
+        float step = 1f / stepRate;
+        JumpEnvelope envelope = new JumpEnvelope();
+        Arrays.fill(envelope.rise, Float.NEGATIVE_INFINITY);
+
+        // Charging zeroes horizontal input, so every jump starts from a standstill
+        PhysicsBody body = new PhysicsBody(CharacterStats.ACCEL, CharacterStats.BASE_SPEED,
+            CharacterStats.FRICTION, stats.getGravity());
+        int steps = envelope.follow(body, step, 0f, 0f, 0f, stats.jumpForce, null);
+
+        if (stats.maxJumps > 1) {
+            // Re-run the first jump and branch off a mid-air jump at every step of it
+            float[] path = new float[steps * 3];
+            envelope.follow(body, step, 0f, 0f, 0f, stats.jumpForce, path);
+            for (int k = 0; k < steps; k++) {
+                envelope.follow(body, step, path[k * 3], path[k * 3 + 1], path[k * 3 + 2],
+                    PlayerPhysicsProcessor.AIR_JUMP_VELOCITY, null);
+            }
+        }
+
+        envelope.finish();
+        return envelope;
+    }
+
+    /** A copy that allows {@code spanX} of extra horizontal slack and demands {@code slackY} of extra height. */
+    public JumpEnvelope withMargin(float spanX, float slackY) {
+        JumpEnvelope shifted = new JumpEnvelope();
+        int shift = (int) (spanX / BIN);
+        for (int b = 0; b < BINS; b++) {
+            shifted.rise[b] = rise[Math.max(b - shift, 0)] - slackY;
+        }
+        shifted.finish();
+        return shifted;
+    }
+
+    /** Highest landing height at horizontal distance {@code dx}, relative to the take-off surface. */
+    public float riseAt(float dx) {
+        int b = (int) Math.ceil(Math.abs(dx) / BIN); // round out, so the answer never flatters the jump
+        return rise[Math.min(b, BINS - 1)];
+    }
+
+    /** Can a platform {@code dx} across and {@code dy} up (negative is down) be landed on? */
+    public boolean canReach(float dx, float dy) {
+        return dy <= riseAt(dx);
+    }
+
+    /** Highest landing height at any distance. */
+    public float getMaxRise() { return rise[0]; }
+
+    /** Furthest horizontal distance at which the character can still land above where they started. */
+    public float getMaxReach() { return maxReach; }
+
+    // ── Simulation ────────────────────────────────────────────────────────────
+
+    /**
+     * Flies one jump from (x, y) with the given velocity until it falls out of range,
+     * recording every point where the body is coming down. Optionally writes the
+     * state at each step to {@code path} as {x, y, vx}. Returns the step count.
+     */
+    private int follow(PhysicsBody body, float dt, float x, float y, float vx, float vy, float[] path) {
+        body.velocityX = vx;
+        body.velocityY = vy;
+        int steps = 0;
+
+        while (y > -DROP_LIMIT && x <= MAX_DX) {
+            body.applyHorizontalInput(1f, dt);
+            x += body.velocityX * dt;
+            body.applyGravity(dt);
+            y += body.velocityY * dt;
+
+            if (path != null) {
+                path[steps * 3] = x;
+                path[steps * 3 + 1] = y;
+                path[steps * 3 + 2] = body.velocityX;
+            }
+            steps++;
+
+            if (body.velocityY <= 0) {
+                int b = Math.min((int) (x / BIN), BINS - 1);
+                if (y > rise[b]) rise[b] = y;
+            }
+        }
+        return steps;
+    }
+
+    /** Anything that lands at a distance can also land closer by steering less. */
+    private void finish() {
+        for (int b = BINS - 2; b >= 0; b--) {
+            rise[b] = Math.max(rise[b], rise[b + 1]);
+        }
+        maxReach = 0f;
+        for (int b = BINS - 1; b >= 0; b--) {
+            if (rise[b] > 0) {
+                maxReach = b * BIN;
+                break;
+            }
+        }
+    }
+}
@@ -3,15 +3,24 @@ package io.github.DKICooked.gameLogic.physics;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
-import io.github.DKICooked.entities.Platform;
+import io.github.DKICooked.entities.PlatformStore;
 import io.github.DKICooked.entities.PlayerActor;
 import io.github.DKICooked.audio.SoundPlayer;
+import io.github.DKICooked.gameLogic.PlatformQuery;
 
 public class PlayerPhysicsProcessor {
     private final PlayerActor player;
     private final PhysicsBody body;
     private final SoundPlayer soundPlayer;
+    private final PlatformStore nearby = new PlatformStore(); // platforms around this step's swept bounds
+    private static final float QUERY_MARGIN = 32f; // covers the landing / head-bump tolerances below
+    public static final float AIR_JUMP_VELOCITY = 650f;
+
+    // Collisions are swept over the whole step, so the rate only affects how finely the
+    // jump arc is integrated, not whether fast bodies tunnel through thin platforms.
+    public static final int DEFAULT_STEP_RATE = 60;
+    private final int stepRate;
+    private final float step;
 
     public float jumpCharge = 0f;
     public final float maxJumpCharge = 900f;
@@ -22,13 +31,34 @@ public class PlayerPhysicsProcessor {
     public float stunTime = 0f;
     public boolean facingRight = true;
 
-    public PlayerPhysicsProcessor(PlayerActor player, PhysicsBody body, SoundPlayer soundPlayer) {
+    /** @param stepRate physics updates per second for this player; its jump envelope must be simulated at the same rate */
+    public PlayerPhysicsProcessor(PlayerActor player, PhysicsBody body, SoundPlayer soundPlayer, int stepRate) {
         this.player = player;
         this.body = body;
         this.soundPlayer = soundPlayer;
+        this.stepRate = stepRate;
+        this.step = 1f / stepRate;
+    }
+
+    public int getStepRate() {
+        return stepRate;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    /** Forgets any charge, stun or cooldown in progress. */
+    public void reset() {
+        jumpCharge = 0f;
+        isCharging = false;
+        isGrounded = false;
+        jumpCooldown = 0f;
+        stunTime = 0f;
+        facingRight = true;
     }
 
-    public void update(float dt, Array<Platform> platforms, float horizontalInput) {
+    public void update(float dt, PlatformQuery world, float horizontalInput) {
         float oldX = player.getX();
         float oldY = player.getY();
         float oldHeadY = oldY + player.getHeight();
@@ -39,14 +69,27 @@ public class PlayerPhysicsProcessor {
 
         handleJump(dt, space);
 
-        handleHorizontal(dt, oldX, platforms, horizontalInput);
+        gatherNearbyPlatforms(dt, world);
+
+        handleHorizontal(dt, oldX, nearby, horizontalInput);
 
-        handleVertical(dt, oldY, oldHeadY, platforms);
+        handleVertical(dt, oldX, oldY, oldHeadY, nearby);
 
         if (body.velocityX > 0.1f) facingRight = true;
         else if (body.velocityX < -0.1f) facingRight = false;
     }
 
+    private void gatherNearbyPlatforms(float dt, PlatformQuery world) {
+        float reachX = Math.abs(body.velocityX) * dt * 2f + QUERY_MARGIN;
+        float reachY = Math.abs(body.velocityY) * dt * 2f + QUERY_MARGIN;
+
+        nearby.size = 0;
+        world.queryPlatforms(
+            player.getX() - reachX, player.getY() - reachY,
+            player.getX() + player.getWidth() + reachX, player.getY() + player.getHeight() + reachY,
+            nearby);
+    }
+
     private void handleJump(float dt, boolean space) {
         if (isGrounded) {
             player.resetJumps();
@@ -54,8 +97,7 @@ public class PlayerPhysicsProcessor {
 
         if (!isGrounded && !isCharging && Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
             if (player.getMaxJumps() > 1 && player.getRemainingJumps() > 0) {
-                body.velocityY = 0;
-                body.velocityY = 650f;
+                body.velocityY = AIR_JUMP_VELOCITY;
                 player.useJump();
                 soundPlayer.playJump();
             }
@@ -79,7 +121,7 @@ public class PlayerPhysicsProcessor {
         }
     }
 
-    private void handleHorizontal(float dt, float oldX, Array<Platform> platforms, float input) {
+    private void handleHorizontal(float dt, float oldX, PlatformStore p, float input) {
 
         if (isCharging || stunTime > 0f) {
             input = 0f; // Force input to 0 before applying it
@@ -98,37 +140,41 @@ public class PlayerPhysicsProcessor {
 
 // Wall Collision
 
-        for (Platform p : platforms) {
-            if (player.isGhost()) continue;
-            float topOfSlab = Math.max(p.y1, p.y2);
-            float bottomOfSlab = Math.min(p.y1, p.y2) - p.thickness;
-
-            if (player.getY() < topOfSlab - 2f && (player.getY() + player.getHeight()) > bottomOfSlab + 2f) {
-                if(!isGrounded) {
-                    if (body.velocityX > 0 && (oldX + player.getWidth()) <= p.x1 && (player.getX() + player.getWidth()) >= p.x1) {
-                        player.setX(p.x1 - player.getWidth());
-                        body.velocityX *= 0f;
-                        stunTime = 0.1f;
-                    } else if (body.velocityX < -0.1f && oldX >= p.x2 && player.getX() <= p.x2) {
-                        player.setX(p.x2);
-                        body.velocityX *= 0f;
-                        stunTime = 0.1f;
-                    }
-                } else if (Math.abs(body.velocityY) < 1f) {
-                    if (body.velocityX > 0 && (oldX + player.getWidth()) <= p.x1 && (player.getX() + player.getWidth()) >= p.x1) {
-                        player.setX(p.x1 - player.getWidth());
-                        body.velocityX = 0f;
-                    } else if (body.velocityX < -0.1f && oldX >= p.x2 && player.getX() <= p.x2) {
-                        player.setX(p.x2);
-                        body.velocityX = 0f;
-                    }
+        if (player.isGhost()) return;
+
+        // Sweep the leading edge from oldX and stop at the first face it crosses
+        float newX = player.getX();
+        float width = player.getWidth();
+        int hit = -1;
+        float hitX = newX;
+        for (int i = 0; i < p.size; i++) {
+            if (player.getY() >= p.top[i] - 2f || (player.getY() + player.getHeight()) <= p.bottom[i] + 2f) continue;
+
+            if (body.velocityX > 0 && (oldX + width) <= p.left[i] && (newX + width) >= p.left[i]) {
+                if (hit == -1 || p.left[i] - width < hitX) {
+                    hit = i;
+                    hitX = p.left[i] - width;
+                }
+            } else if (body.velocityX < -0.1f && oldX >= p.right[i] && newX <= p.right[i]) {
+                if (hit == -1 || p.right[i] > hitX) {
+                    hit = i;
+                    hitX = p.right[i];
                 }
             }
-
+        }
+        if (hit == -1) return;
+
+        if (!isGrounded) {
+            player.setX(hitX);
+            body.velocityX *= 0f;
+            stunTime = 0.1f;
+        } else if (Math.abs(body.velocityY) < 1f) {
+            player.setX(hitX);
+            body.velocityX = 0f;
         }
     }
 
-    private void handleVertical(float dt, float oldY, float oldHeadY, Array<Platform> platforms) {
+    private void handleVertical(float dt, float oldX, float oldY, float oldHeadY, PlatformStore p) {
         if (!isGrounded) body.applyGravity(dt);
         player.moveBy(0, body.velocityY * dt);
 
@@ -141,38 +187,57 @@ public class PlayerPhysicsProcessor {
             return;
         }
 
-        boolean groundedThisFrame = false;
         float footY = player.getY();
         float headY = footY + player.getHeight();
-
-        float[] checkPointsX = { player.getX() + 2f, player.getX() + player.getWidth() / 2f, player.getX() + player.getWidth() - 2f };
-
-        for (Platform p : platforms) {
-            for (float x : checkPointsX) {
-                float surfaceY = p.getSurfaceY(x);
-                if (surfaceY != -1) {
-                    if (body.velocityY <= 0 && oldY >= surfaceY - 5f && footY <= surfaceY + 2f) {
-                        player.setY(surfaceY);
-                        body.velocityY = 0;
-                        groundedThisFrame = true;
-                        player.resetJumps();
-                        break;
-                    }
-
-                    if (player.isGhost()) continue;
-
-                    float bottomY = surfaceY - p.thickness;
-                    if (body.velocityY > 0 && oldHeadY <= bottomY + 5f && headY >= bottomY) {
-                        if (x >= p.x1 && x <= p.x2) {
-                            player.setY(bottomY - player.getHeight() - 1f);
-                            body.velocityY = 0;
-                            break;
-                        }
-                    }
-                }
+        float newX = player.getX();
+        float width = player.getWidth();
+
+        if (body.velocityY <= 0) {
+            // Falling: land on the highest surface the feet cross this step,
+            // checked where the player actually was when they crossed it
+            int landing = -1;
+            for (int i = 0; i < p.size; i++) {
+                float surfaceY = p.top[i];
+                if (oldY < surfaceY - 5f || footY > surfaceY + 2f) continue;
+                if (landing != -1 && surfaceY <= p.top[landing]) continue;
+
+                float x = xAtCrossing(oldX, newX, oldY, footY, surfaceY);
+                if (x + width - 2f >= p.landLeft[i] && x + 2f <= p.landRight[i]) landing = i;
             }
-            if (groundedThisFrame) break;
+            if (landing != -1) {
+                player.setY(p.top[landing]);
+                body.velocityY = 0;
+                player.resetJumps();
+            }
+            isGrounded = landing != -1;
+            return;
         }
-        isGrounded = groundedThisFrame;
+
+        isGrounded = false;
+        if (player.isGhost()) return;
+
+        // Rising: bump against the lowest underside the head crosses this step
+        int bump = -1;
+        for (int i = 0; i < p.size; i++) {
+            if (p.type[i] == PlatformStore.WALL) continue; // walls stand on slabs, the slab takes the hit
+            float bottomY = p.bottom[i];
+            if (oldHeadY > bottomY + 5f || headY < bottomY) continue;
+            if (bump != -1 && bottomY >= p.bottom[bump]) continue;
+
+            float x = xAtCrossing(oldX, newX, oldHeadY, headY, bottomY);
+            if (x + width - 2f >= p.left[i] && x + 2f <= p.right[i]) bump = i;
+        }
+        if (bump != -1) {
+            player.setY(p.bottom[bump] - player.getHeight() - 1f);
+            body.velocityY = 0;
+        }
+    }
+
+    /** Player x at the moment an edge moving from {@code fromY} to {@code toY} passed {@code lineY}. */
+    private static float xAtCrossing(float oldX, float newX, float fromY, float toY, float lineY) {
+        float travel = fromY - toY;
+        if (travel == 0f) return newX;
+        float t = MathUtils.clamp((fromY - lineY) / travel, 0f, 1f);
+        return oldX + (newX - oldX) * t;
     }
 }
@@ -0,0 +1,153 @@
+package io.github.DKICooked.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.DKICooked.ResourceTracker;
+
+/**
+ * Every font the game uses, rasterized from {@code new_font.ttf} once per variant and kept for the
+ * whole run. Screens come and go; their fonts stay here, so never dispose a font you got from this.
+ * <p>
+ * Variants with the same filtering share glyph pages, so UI text in different sizes still draws from
+ * one texture. A BMFont file at {@code fonts/<variant>.fnt} (see {@link #nameOf}) is loaded instead of
+ * rasterizing, for variants someone has baked ahead of time.
+ * <p>
+ * Variants can also be {@link #queue queued} and rasterized one at a time with {@link #bakeNext},
+ * so a loading screen can spread the work over its frames.
+ */
+public class FontCache implements Disposable {
+    private static final String TTF = "new_font.ttf";
+    private static final Color BORDER_COLOR = Color.BLACK;
+    private static final Color SHADOW_COLOR = new Color(0, 0, 0, 0.5f);
+    private static final int PAGE_SIZE = 1024;
+
+    private final ResourceTracker resources;
+    private final ObjectMap<String, BitmapFont> fonts = new ObjectMap<>();
+    private FreeTypeFontGenerator generator; // opened on the first miss
+    private PixmapPacker pixelPages, smoothPages; // nearest and linear filtered glyphs can't share a texture
+    private final Array<Variant> pending = new Array<>();
+
+    public FontCache(ResourceTracker resources) {
+        this.resources = resources;
+    }
+
+    /** Plain white text. */
+    public BitmapFont get(int size) {
+        return get(size, 0f, 0, Color.WHITE, false);
+    }
+
+    /** White text with a black border and a half-transparent drop shadow; 0 turns either off. */
+    public BitmapFont get(int size, float border, int shadow) {
+        return get(size, border, shadow, Color.WHITE, false);
+    }
+
+    /**
+     * @param border black outline width in px, 0 for none
+     * @param shadow drop shadow offset in px (down and right), 0 for none
+     * @param smooth linear filtering, for text that gets scaled
+     */
+    public BitmapFont get(int size, float border, int shadow, Color color, boolean smooth) {
+        String name = nameOf(size, border, shadow, color, smooth);
+        BitmapFont font = fonts.get(name);
+        if (font == null) {
+            font = resources.track(this, load(name, size, border, shadow, color, smooth));
+            fonts.put(name, font);
+        }
+        return font;
+    }
+
+    /** Asks for a variant to be rasterized ahead of its first {@link #get}, by {@link #bakeNext}. */
+    public void queue(int size, float border, int shadow, Color color, boolean smooth) {
+        pending.add(new Variant(size, border, shadow, color, smooth));
+    }
+
+    /** Rasterizes the oldest queued variant; true once the queue is empty. */
+    public boolean bakeNext() {
+        if (pending.isEmpty()) return true;
+        Variant v = pending.removeIndex(0);
+        get(v.size, v.border, v.shadow, v.color, v.smooth);
+        return pending.isEmpty();
+    }
+
+    /** Cache key, and the file name a baked copy of the variant goes by. */
+    public static String nameOf(int size, float border, int shadow, Color color, boolean smooth) {
+        return "new_font-" + size + "-b" + border + "-s" + shadow + "-" + color + (smooth ? "-linear" : "");
+    }
+
+    private BitmapFont load(String name, int size, float border, int shadow, Color color, boolean smooth) {
+        FileHandle baked = Gdx.files.internal("fonts/" + name + ".fnt");
+        if (baked.exists()) {
+            BitmapFont font = new BitmapFont(baked);
+            if (smooth) font.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            return font;
+        }
+
+        if (generator == null) generator = new FreeTypeFontGenerator(Gdx.files.internal(TTF));
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        parameter.size = size;
+        parameter.color = color;
+        parameter.borderWidth = border;
+        parameter.borderColor = BORDER_COLOR;
+        parameter.shadowOffsetX = shadow;
+        parameter.shadowOffsetY = shadow;
+        parameter.shadowColor = SHADOW_COLOR;
+        if (smooth) {
+            parameter.minFilter = Texture.TextureFilter.Linear;
+            parameter.magFilter = Texture.TextureFilter.Linear;
+            if (smoothPages == null) smoothPages = newPages();
+            parameter.packer = smoothPages;
+        } else {
+            if (pixelPages == null) pixelPages = newPages();
+            parameter.packer = pixelPages;
+        }
+        return generator.generateFont(parameter);
+    }
+
+    private static PixmapPacker newPages() {
+        return new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+    }
+
+    @Override
+    public void dispose() {
+        resources.disposeAll(this); // the fonts; only baked ones own their pages
+        fonts.clear();
+        disposePages(pixelPages);
+        disposePages(smoothPages);
+        pixelPages = smoothPages = null;
+        if (generator != null) generator.dispose();
+        generator = null;
+    }
+
+    private static final class Variant {
+        final int size;
+        final float border;
+        final int shadow;
+        final Color color;
+        final boolean smooth;
+
+        Variant(int size, float border, int shadow, Color color, boolean smooth) {
+            this.size = size;
+            this.border = border;
+            this.shadow = shadow;
+            this.color = color;
+            this.smooth = smooth;
+        }
+    }
+
+    private static void disposePages(PixmapPacker packer) {
+        if (packer == null) return;
+        for (PixmapPacker.Page page : packer.getPages()) {
+            if (page.getTexture() != null) page.getTexture().dispose();
+        }
+        packer.dispose();
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.DKICooked.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts what the render thread allocates each frame, straight from the JVM's per-thread
+ * allocation counter. Gameplay frames are meant to allocate nothing once the game has warmed up,
+ * and this is how that gets checked. The build checks it headless, in strict mode, with
+ * {@code SteadyStateAllocationTest}. In the game it is off by default; start it with
+ * {@code -Ddki.allocCheck=log} to log every frame that allocates, or {@code =strict} to
+ * crash on the first one.
+ */
+public class FrameAllocationProbe {
+    public enum Mode { OFF, LOG, STRICT }
+
+    public static final String PROPERTY = "dki.allocCheck";
+    private static final int WARMUP_FRAMES = 300; // pools fill, arrays reach their working size, the JIT settles
+
+    private final Mode mode;
+    private final com.sun.management.ThreadMXBean threads; // null when the JVM can't count per thread
+
+    private long frameStart;
+    private int steadyFrames;
+    private int allocatingFrames;
+    private long worstFrame;
+
+    public FrameAllocationProbe(Mode mode) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (mode != Mode.OFF && bean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            this.threads = (com.sun.management.ThreadMXBean) bean;
+            threads.setThreadAllocatedMemoryEnabled(true);
+            this.mode = mode;
+        } else {
+            this.threads = null;
+            this.mode = Mode.OFF;
+        }
+    }
+
+    /** Reads the mode from {@value #PROPERTY}; anything unrecognised is off. */
+    public static FrameAllocationProbe fromSystemProperty() {
+        String value = System.getProperty(PROPERTY, "");
+        switch (value) {
+            case "log":    return new FrameAllocationProbe(Mode.LOG);
+            case "strict": return new FrameAllocationProbe(Mode.STRICT);
+            default:       return new FrameAllocationProbe(Mode.OFF);
+        }
+    }
+
+    public void beginFrame() {
+        if (threads != null) frameStart = threads.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Closes the frame opened by {@link #beginFrame()}. Only frames flagged as {@code steadyState}
+     * are judged; loading, menus and transitions are free to allocate.
+     */
+    public void endFrame(boolean steadyState) {
+        if (threads == null) return;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - frameStart;
+        if (!steadyState || ++steadyFrames <= WARMUP_FRAMES || bytes == 0) return;
+
+        allocatingFrames++;
+        worstFrame = Math.max(worstFrame, bytes);
+        if (mode == Mode.STRICT) {
+            throw new GdxRuntimeException("Gameplay frame " + steadyFrames + " allocated " + bytes + " bytes");
+        }
+        Gdx.app.log("Alloc", "frame " + steadyFrames + " allocated " + bytes + " bytes ("
+            + allocatingFrames + " so far, worst " + worstFrame + ")");
+    }
+
+    public boolean isEnabled() { return threads != null; }
+    public int getAllocatingFrames() { return allocatingFrames; }
+    public long getWorstFrame() { return worstFrame; }
+}
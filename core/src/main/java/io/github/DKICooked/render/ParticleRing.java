@@ -0,0 +1,118 @@
+package io.github.DKICooked.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Short-lived quads that all share one texture region: trails, sparks, shimmer.
+ * Particles live in fixed-size parallel arrays used as a ring, so emitting never allocates;
+ * when the ring is full the oldest particle is overwritten. Each particle fades out
+ * linearly over its life, and the whole ring is drawn with one vertex submission.
+ */
+public class ParticleRing {
+    private static final int VERTEX_FLOATS = 20; // 4 corners of x, y, color, u, v
+
+    private final TextureRegion region;
+    private final int capacity;
+
+    private int head;  // next slot to write
+    private int count; // live-or-fading particles behind head
+
+    private final float[] x, y, vx, vy;
+    private final float[] width, height;
+    private final float[] age, life;
+    private final float[] r, g, b, a; // colour at birth; alpha fades from a to 0
+
+    private final float[] vertices;
+
+    public ParticleRing(TextureRegion region, int capacity) {
+        this.region = region;
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        age = new float[capacity];
+        life = new float[capacity];
+        r = new float[capacity];
+        g = new float[capacity];
+        b = new float[capacity];
+        a = new float[capacity];
+        vertices = new float[capacity * VERTEX_FLOATS];
+    }
+
+    /** Adds a particle with its bottom-left corner at (px, py), overwriting the oldest if the ring is full. */
+    public void emit(float px, float py, float velX, float velY, float w, float h, float lifetime,
+                     float red, float green, float blue, float alpha) {
+        int i = head;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = velX;
+        vy[i] = velY;
+        width[i] = w;
+        height[i] = h;
+        age[i] = 0f;
+        life[i] = lifetime;
+        r[i] = red;
+        g[i] = green;
+        b[i] = blue;
+        a[i] = alpha;
+
+        head = (head + 1) % capacity;
+        if (count < capacity) count++;
+    }
+
+    public void update(float delta) {
+        for (int n = 0; n < count; n++) {
+            int i = slot(n);
+            age[i] += delta;
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+        }
+        // Drop expired particles off the old end; ones that die out of order just draw nothing until then
+        while (count > 0 && age[slot(count - 1)] >= life[slot(count - 1)]) count--;
+    }
+
+    /** Draws the particles that overlap {@code view} in one submission and returns how many that was. */
+    public int draw(Batch batch, Rectangle view) {
+        float left = view.x, right = view.x + view.width;
+        float bottom = view.y, top = view.y + view.height;
+        float u = region.getU(), v1 = region.getV2(), u2 = region.getU2(), v2 = region.getV(); // v1 is the bottom edge
+        int floats = 0;
+        // Oldest first, so newer particles land on top
+        for (int n = count - 1; n >= 0; n--) {
+            int i = slot(n);
+            float fade = 1f - age[i] / life[i];
+            if (fade <= 0f) continue;
+
+            float x1 = x[i], y1 = y[i];
+            float x2 = x1 + width[i], y2 = y1 + height[i];
+            if (x2 < left || x1 > right || y2 < bottom || y1 > top) continue;
+
+            float color = Color.toFloatBits(r[i], g[i], b[i], a[i] * fade);
+            float[] v = vertices;
+            v[floats]      = x1; v[floats + 1]  = y1; v[floats + 2]  = color; v[floats + 3]  = u;  v[floats + 4]  = v1;
+            v[floats + 5]  = x1; v[floats + 6]  = y2; v[floats + 7]  = color; v[floats + 8]  = u;  v[floats + 9]  = v2;
+            v[floats + 10] = x2; v[floats + 11] = y2; v[floats + 12] = color; v[floats + 13] = u2; v[floats + 14] = v2;
+            v[floats + 15] = x2; v[floats + 16] = y1; v[floats + 17] = color; v[floats + 18] = u2; v[floats + 19] = v1;
+            floats += VERTEX_FLOATS;
+        }
+        if (floats > 0) batch.draw(region.getTexture(), vertices, 0, floats);
+        return floats / VERTEX_FLOATS;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int size() { return count; }
+
+    /** Ring slot of the n-th newest particle. */
+    private int slot(int n) {
+        return (head - 1 - n + capacity) % capacity;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.DKICooked.render;
+
+/**
+ * What the world pass drew and what it skipped for being off camera, per kind of object.
+ * Reset at the start of every frame; read it from the profiler, or log it at debug level.
+ */
+public class RenderStats {
+    public enum Kind { PLATFORM_TILES, HAZARDS, PICKUPS, TRAIL }
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private final int[] submitted = new int[KINDS.length];
+    private final int[] culled = new int[KINDS.length];
+
+    public void beginFrame() {
+        for (int i = 0; i < KINDS.length; i++) {
+            submitted[i] = 0;
+            culled[i] = 0;
+        }
+    }
+
+    /** Records that {@code drawn} of {@code total} objects of a kind went to the GPU. */
+    public void record(Kind kind, int drawn, int total) {
+        submitted[kind.ordinal()] += drawn;
+        culled[kind.ordinal()] += total - drawn;
+    }
+
+    public int getSubmitted(Kind kind) { return submitted[kind.ordinal()]; }
+    public int getCulled(Kind kind) { return culled[kind.ordinal()]; }
+
+    public int getSubmitted() {
+        int sum = 0;
+        for (int n : submitted) sum += n;
+        return sum;
+    }
+
+    public int getCulled() {
+        int sum = 0;
+        for (int n : culled) sum += n;
+        return sum;
+    }
+
+    /** One line per frame for the log. Allocates, so only call it when the line is actually wanted. */
+    public String describe() {
+        StringBuilder line = new StringBuilder();
+        for (Kind kind : KINDS) {
+            if (line.length() > 0) line.append(", ");
+            line.append(kind.name().toLowerCase()).append(' ')
+                .append(submitted[kind.ordinal()]).append(" drawn / ")
+                .append(culled[kind.ordinal()]).append(" culled");
+        }
+        return line.toString();
+    }
+}
@@ -4,7 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -13,7 +13,6 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.github.DKICooked.Main;
-import io.github.DKICooked.audio.SoundPlayer;
 import io.github.DKICooked.screen.BaseScreen;
 import io.github.DKICooked.screen.main.MainMenuScreen;
 
@@ -23,7 +22,7 @@ public class SettingsScreen extends BaseScreen {
     private BitmapFont font;
     private Skin sliderSkin;;
 
-    // Textures for disposal (Memory Optimization)
+    // Held through main.assets, released in dispose()
     private Texture backTex;
     private Texture knobTex;
 
@@ -41,23 +40,19 @@ public class SettingsScreen extends BaseScreen {
 
 
     private void setupFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf")); //
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 26;
-        parameter.color = Color.WHITE;
-        font = generator.generateFont(parameter);
-        generator.dispose(); //
+        font = main.fonts.get(26);
     }
 
     private void setupSliderSkin() {
         sliderSkin = new Skin();
 
         // Load your pixel art assets
-        backTex = new Texture(Gdx.files.internal("slider_back.png"));
-        knobTex = new Texture(Gdx.files.internal("slider_knob.png"));
+        backTex = main.assets.texture(this, "slider_back.png");
+        knobTex = main.assets.texture(this, "slider_knob.png");
 
-        sliderSkin.add("background", backTex);
-        sliderSkin.add("knob", knobTex);
+        // As regions, so disposing the skin leaves the shared textures alone
+        sliderSkin.add("background", new TextureRegion(backTex));
+        sliderSkin.add("knob", new TextureRegion(knobTex));
 
         // Build the style based on your image
         Slider.SliderStyle style = new Slider.SliderStyle();
@@ -77,7 +72,7 @@ public class SettingsScreen extends BaseScreen {
         table.setFillParent(true); //
 
         Label.LabelStyle labelStyle = new Label.LabelStyle(font, Color.WHITE);
-        Texture set = new Texture(Gdx.files.internal("set.png"));
+        Texture set = main.assets.texture(this, "set.png");
 
         Image setImg = new Image(set);
         // MUSIC SLIDER
@@ -85,23 +80,22 @@ public class SettingsScreen extends BaseScreen {
         table.center();
         Label musicLabel = new Label("BGM VOLUME", labelStyle);
         final Slider musicSlider = new Slider(0f, 1f, 0.05f, false, sliderSkin);
-        musicSlider.setValue(SoundPlayer.bgmVolume);
+        musicSlider.setValue(main.soundPlayer.getMusicVolume());
         musicSlider.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) {
-                SoundPlayer.bgmVolume = musicSlider.getValue();
-                main.soundPlayer.updateVolume();
+                main.soundPlayer.setMusicVolume(musicSlider.getValue());
             }
         });
 
         // SFX SLIDER
         Label sfxLabel = new Label("SFX VOLUME", labelStyle);
         final Slider sfxSlider = new Slider(0f, 1f, 0.05f, false, sliderSkin);
-        sfxSlider.setValue(SoundPlayer.sfxVolume);
+        sfxSlider.setValue(main.soundPlayer.getSfxVolume());
         sfxSlider.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) {
-                SoundPlayer.sfxVolume = sfxSlider.getValue();
+                main.soundPlayer.setSfxVolume(sfxSlider.getValue());
             }
         });
 
@@ -140,9 +134,7 @@ public class SettingsScreen extends BaseScreen {
     public void dispose() {
         // SYSTEM RECONFIGURATION: Manual resource cleanup
         uiStage.dispose();
-        if (font != null) font.dispose();
         if (sliderSkin != null) sliderSkin.dispose();
-        if (backTex != null) backTex.dispose();
-        if (knobTex != null) knobTex.dispose();
+        main.assets.releaseAll(this);
     }
 }
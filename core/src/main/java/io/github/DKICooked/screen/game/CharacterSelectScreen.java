@@ -6,7 +6,7 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.NinePatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -25,6 +25,7 @@ public class CharacterSelectScreen extends BaseScreen {
     private final Stage uiStage;
     private final NinePatchDrawable cardDrawable;
     private Texture headerTex;
+    private final TextureAtlas gameAtlas; // the portraits are the characters' idle frames
     private BitmapFont customFont;
 
     // Define your custom hex color
@@ -37,6 +38,7 @@ public class CharacterSelectScreen extends BaseScreen {
         Gdx.input.setInputProcessor(uiStage);
 
         createFonts();
+        gameAtlas = main.assets.atlas(this, "atlas/game.atlas");
 
         this.cardDrawable = new NinePatchDrawable(createRoundedNinePatch(12, Color.WHITE));
 
@@ -45,7 +47,7 @@ public class CharacterSelectScreen extends BaseScreen {
 
         // 1. LOAD YOUR HEADER IMAGE
         // Replace "select_header.png" with your actual filename
-        headerTex = new Texture(Gdx.files.internal("select.png"));
+        headerTex = main.assets.texture(this, "select.png");
         Image titleImage = new Image(headerTex);
 
         titleImage.addAction(
@@ -61,9 +63,9 @@ public class CharacterSelectScreen extends BaseScreen {
 
         // 2. CREATE THE CARDS
         // Inside CharacterSelectScreen constructor:
-        ImageButton alaineCard = createCharacterCard("Alaine", "Low gravity: Floats longer in the air", "aidle.png");
-        ImageButton jerickCard = createCharacterCard("Jerick", "Ninja: Can jump again while in mid-air", "jidle.png");
-        ImageButton timothyCard = createCharacterCard("Timothy", "Power: Charge for a massive high jump", "tidle.png");
+        ImageButton alaineCard = createCharacterCard("Alaine", "Low gravity: Floats longer in the air", "aidle");
+        ImageButton jerickCard = createCharacterCard("Jerick", "Ninja: Can jump again while in mid-air", "jidle");
+        ImageButton timothyCard = createCharacterCard("Timothy", "Power: Charge for a massive high jump", "tidle");
 
         // ... (Keep your listeners the same) ...
         alaineCard.addListener(new ClickListener() {
@@ -114,20 +116,11 @@ public class CharacterSelectScreen extends BaseScreen {
     }
 
     private void createFonts() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-        parameter.size = 20;
-        parameter.color = Color.WHITE;
-
-        customFont = generator.generateFont(parameter);
-        customFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        generator.dispose();
+        customFont = main.fonts.get(20, 0f, 0, Color.WHITE, true);
     }
 
-    private ImageButton createCharacterCard(String name, String description, String internalPath) {
-        Texture charTex = new Texture(Gdx.files.internal(internalPath));
-        Image characterImg = new Image(charTex);
+    private ImageButton createCharacterCard(String name, String description, String regionName) {
+        Image characterImg = new Image(gameAtlas.findRegion(regionName));
 
         Label.LabelStyle labelStyle = new Label.LabelStyle(customFont, Color.WHITE);
         Label nameLabel = new Label(name, labelStyle);
@@ -207,7 +200,7 @@ public class CharacterSelectScreen extends BaseScreen {
         pixmap.fillCircle(size / 2, size / 2, size / 2);
 
         // Convert to texture
-        Texture texture = new Texture(pixmap);
+        Texture texture = main.resources.track(this, new Texture(pixmap));
         pixmap.dispose();
 
         // Create NinePatch: split at the middle so it stretches correctly
@@ -228,11 +221,10 @@ public class CharacterSelectScreen extends BaseScreen {
 
     @Override
     public void dispose() {
+        super.dispose();
         uiStage.dispose();
-        if (customFont != null) customFont.dispose();
-        if (cardDrawable.getPatch().getTexture() != null) {
-            cardDrawable.getPatch().getTexture().dispose();
-        }
+        main.assets.releaseAll(this);
+        main.resources.disposeAll(this);
     }
 }
 
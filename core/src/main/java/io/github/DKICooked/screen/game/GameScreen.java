@@ -1,5 +1,6 @@
 package io.github.DKICooked.screen.game;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputMultiplexer;
@@ -9,11 +10,10 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
@@ -21,15 +21,19 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.github.DKICooked.Main;
 import io.github.DKICooked.audio.SoundPlayer;
 import io.github.DKICooked.entities.*;
+import io.github.DKICooked.gameLogic.ActiveWindow;
 import io.github.DKICooked.gameLogic.SaveData;
 import io.github.DKICooked.gameLogic.SaveManager;
 import io.github.DKICooked.gameLogic.WorldManager;
+import io.github.DKICooked.gameLogic.physics.JumpEnvelope;
+import io.github.DKICooked.render.FrameAllocationProbe;
+import io.github.DKICooked.render.ParticleRing;
+import io.github.DKICooked.render.RenderStats;
 import io.github.DKICooked.screen.BaseScreen;
 import io.github.DKICooked.screen.SettingsScreen;
 import io.github.DKICooked.screen.main.MainMenuScreen;
@@ -49,11 +53,13 @@ public class GameScreen extends BaseScreen {
     private final PlayerActor player;
     private final PlayerSprite sprite;
 
-    private Texture platformTileTexture, playerFallenTexture, backgroundTexture, railTexture;
-    private Texture titleTex, retryTex, whitePixel, asteroidTex, anomalyTex;
+    private Texture backgroundTexture, railTexture;
+    private Texture titleTex, retryTex, whitePixel;
+    private final TextureAtlas gameAtlas; // every in-game sprite on one page; see packTextures in build.gradle
+    private TextureRegion anomalyRegion;
     private PlatformTiles platformTile;
 
-    private enum RaidType { NONE, ASTEROIDS, UFO, MAGNETIC_STORM }
+    enum RaidType { NONE, ASTEROIDS, UFO, MAGNETIC_STORM, METEOR_STORM }
     private RaidType activeRaid = RaidType.NONE;
     private RaidType lastActiveRaid = RaidType.NONE;
 
@@ -62,6 +68,18 @@ public class GameScreen extends BaseScreen {
     private final UfoManager ufoManager;
     private final MagneticStormManager msManger;
     private final AsteroidManager asteroidManager;
+    private final HazardSystem hazards;
+    private static final float METEOR_STORM_HEIGHT = 6000f; // storms only show up once the rocks are at full rate
+    // Pickups on the stage
+    private final ActorRegistry<PowerUpActor> pickups = new ActorRegistry<>();
+    private final ActorPool<PowerUpActor> powerUpPool = new ActorPool<PowerUpActor>(8, pickups) {
+        @Override
+        protected PowerUpActor newObject() {
+            PowerUpActor pUp = new PowerUpActor();
+            pUp.setPool(this);
+            return pUp;
+        }
+    };
 
     private BitmapFont scoreFont;
     private Label scoreLabel, finalScoreLabel;
@@ -85,15 +103,24 @@ public class GameScreen extends BaseScreen {
     private TextButton retryBtn;
     private TextButton quitBtn;
 
-    private Texture ghostTex;
-    private Texture ufoTex;
-    private Texture ufoVehicle;
+    private TextureRegion ghostTex;
+    private TextureRegion ufoTex;
+    private TextureRegion ufoVehicle;
 
     private float nextAnomalyMinHeight = 0; // The player must reach this height before a new raid can start
     private static final float BREATHER_DISTANCE = 1500f; // Distance of the "Breather"
 
-    private final Array<Vector2> trailPositions = new Array<>();
-    private static final int MAX_TRAIL_SAMPLES = 10;
+    private final ParticleRing ufoTrail;
+    private static final float TRAIL_LIFE = 10 / 60f;
+    private static final float TRAIL_RATE = 60f; // afterimages per second, whatever the frame rate
+    private float trailClock = 0;
+
+    private final FrameAllocationProbe allocProbe = FrameAllocationProbe.fromSystemProperty();
+    private final RenderStats renderStats = new RenderStats();
+    private final Rectangle viewBounds = new Rectangle(); // what the world camera sees, refreshed every frame
+    private float statsLogTimer = 0;
+
+    private final InputMultiplexer gameInput = new InputMultiplexer(); // UI first, then the world
 
     private float stuckTimer = 0;
     private float lastRecordedHeight = 0;
@@ -103,51 +130,55 @@ public class GameScreen extends BaseScreen {
     public GameScreen(Main main, String selection) {
         this.main = main;
         this.selection = selection;
-        playerFallenTexture = new Texture(Gdx.files.internal("dead.png"));
-        anomalyTex = new Texture(Gdx.files.internal("emer.png"));
+        gameAtlas = main.assets.atlas(this, "atlas/game.atlas");
+        anomalyRegion = gameAtlas.findRegion("emer");
 
         main.soundPlayer.playMusic();
 
         this.uiStage = new Stage(new FitViewport(SCREEN_WIDTH, SCREEN_HEIGHT));
 
-        asteroidTex = new Texture(Gdx.files.internal("asteroid.png"));
-        this.asteroidManager = new AsteroidManager(asteroidTex);
-        this.world = new WorldManager();
-
-        ghostTex = new Texture(Gdx.files.internal("GhostPowerUp.png"));
-        ufoTex = new Texture(Gdx.files.internal("UfoPowerUp.png"));
-        ufoVehicle = new Texture(Gdx.files.internal("ufoV1.png"));
-
-        platformTileTexture = new Texture(Gdx.files.internal("wallTile.jpg"));
-        platformTile = new PlatformTiles(platformTileTexture);
+        ghostTex = gameAtlas.findRegion("GhostPowerUp");
+        ufoTex = gameAtlas.findRegion("UfoPowerUp");
+        ufoVehicle = gameAtlas.findRegion("ufoV1");
+        // Emitting at a fixed rate caps how many are alive at once, so the ring never overwrites a live one
+        ufoTrail = new ParticleRing(ufoVehicle, MathUtils.ceil(TRAIL_LIFE * TRAIL_RATE) + 1);
 
         player = new PlayerActor(main.soundPlayer);
         player.setSize(40, 60);
         player.setPosition(400, 150);
-        player.setPlatforms(world.getActivePlatforms());
         player.initStats(selection);
 
+        this.world = new WorldManager(player.getEnvelope());
+        player.setWorld(world);
+
+        platformTile = new PlatformTiles(gameAtlas.findRegion("wallTile"), world.getCacheCapacity());
+        world.setChunkListener(platformTile);
+
         stage.addActor(player);
-        sprite = new PlayerSprite(selection);
+        sprite = new PlayerSprite(selection, gameAtlas);
 
-        backgroundTexture = new Texture(Gdx.files.internal("background.png"));
-        railTexture = new Texture(Gdx.files.internal("rail.png"));
+        backgroundTexture = main.assets.texture(this, "background.png");
+        railTexture = main.assets.texture(this, "rail.png");
         backgroundTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
         railTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
 
-        Texture f1 = new Texture(Gdx.files.internal("ufoH1.png"));
-        Texture f2 = new Texture(Gdx.files.internal("ufoH2.png"));
-        ufoHorizontalAnim = new Animation<>(0.3f, new TextureRegion(f1), new TextureRegion(f2));
+        ufoHorizontalAnim = new Animation<>(0.3f, gameAtlas.findRegion("ufoH1"), gameAtlas.findRegion("ufoH2"));
         ufoHorizontalAnim.setPlayMode(Animation.PlayMode.LOOP);
 
-        this.ufoManager = new UfoManager(ufoHorizontalAnim);
-        this.msManger = new MagneticStormManager();
+        this.hazards = new HazardSystem(gameAtlas.findRegion("asteroid"), ufoHorizontalAnim);
+        this.asteroidManager = new AsteroidManager(hazards);
+        this.ufoManager = new UfoManager(hazards);
+        this.msManger = new MagneticStormManager(gameAtlas.findRegion("white"));
 
         // Initial input setup
-        InputMultiplexer multiplexer = new InputMultiplexer();
-        multiplexer.addProcessor(uiStage);
-        multiplexer.addProcessor(stage);
-        Gdx.input.setInputProcessor(multiplexer);
+        gameInput.addProcessor(uiStage);
+        gameInput.addProcessor(stage);
+        Gdx.input.setInputProcessor(gameInput);
+
+        // Stage actors (pickups) outside the camera are skipped by scene2d itself
+        stage.getRoot().setCullingArea(viewBounds);
+        // The root never moves, scales or rotates, so it draws without a transform: no flush in the world pass
+        stage.getRoot().setTransform(false);
 
         setupUI();
         snapCamera(0);
@@ -163,7 +194,6 @@ public class GameScreen extends BaseScreen {
 
         if (currentState == State.PLAYING) {
             world.update(player.getY());
-            player.setPlatforms(world.getActivePlatforms());
 
             int currentChunk = world.getCurrentChunk();
             if (currentChunk > highestChunkReached) highestChunkReached = currentChunk;
@@ -172,7 +202,6 @@ public class GameScreen extends BaseScreen {
                 lastSnapChunk = currentChunk;
             }
 
-            if (activeRaid != RaidType.NONE) checkCollisions();
             if (highestChunkReached > 0 && currentChunk < highestChunkReached - 1) startDeathSequence();
 
             float moveDir = 0;
@@ -214,46 +243,47 @@ public class GameScreen extends BaseScreen {
             pitySpawned = true; // Only spawn one per "stuck" session
         }
 
-        for (Actor actor : stage.getActors()) {
-            if (actor instanceof PowerUpActor) {
-                PowerUpActor item = (PowerUpActor) actor;
+        // Pickups and despawns in one pass; backwards, since removing swaps the last one in
+        for (int i = pickups.size() - 1; i >= 0; i--) {
+            PowerUpActor item = pickups.get(i);
 
-                // If the player overlaps the item
-                if (player.getCollisionRect().overlaps(item.getBounds())) {
+            // If the player overlaps the item
+            if (player.getCollisionRect().overlaps(item.getBounds())) {
 
-                    // Activate the 6.5s Ghost mode
-                    player.activePowerUp(item.getType());
+                // Activate the 6.5s Ghost mode
+                player.activePowerUp(item.getType());
 
-                    // Remove the item from the screen
-                    item.remove();
+                // Remove the item from the screen
+                item.remove();
 
-                    // (Optional) soundPlayer.playPowerUpSound();
-                }
-            }
-        }
-
-        for (Actor actor : stage.getActors()) {
-            if (actor instanceof PowerUpActor) {
+                // (Optional) soundPlayer.playPowerUpSound();
+            } else if (item.getY() < player.getY() - 800) {
                 // If the item is 800 pixels below the player, delete it to save memory
-                if (actor.getY() < player.getY() - 800) {
-                    actor.remove();
-                }
+                item.remove();
             }
         }
 
+        ufoTrail.update(delta);
         if (player.hasUfo()) {
-            // Record current position
-            trailPositions.insert(0, new Vector2(player.getX() - 20, player.getY() - 10));
-
-            // Keep the list short
-            if (trailPositions.size > MAX_TRAIL_SAMPLES) {
-                trailPositions.removeIndex(trailPositions.size - 1);
+            // Leave an afterimage at the current position with a "blue energy" tint; it fades from half opacity.
+            // At most one per frame, so slow frames just leave fewer
+            trailClock += delta;
+            if (trailClock >= 1f / TRAIL_RATE) {
+                ufoTrail.emit(player.getX() - 20, player.getY() - 10, 0, 0, 80, 50, TRAIL_LIFE, 0.4f, 0.7f, 1f, 0.5f);
+                trailClock %= 1f / TRAIL_RATE;
             }
         } else {
             // Clear trail when UFO is gone
-            trailPositions.clear();
+            ufoTrail.clear();
+            trailClock = 1f / TRAIL_RATE; // the first frame on the UFO leaves one straight away
         }
         stage.act(delta);
+
+        // Hazards move, despawn and hit the player in one pass; they only kill while a raid is on
+        boolean lethal = currentState == State.PLAYING && activeRaid != RaidType.NONE && !player.isGhost();
+        if (hazards.update(delta, stage.getCamera().position.y, lethal ? player.getCollisionRect() : null)) {
+            startDeathSequence();
+        }
     }
 
     private void startDeathSequence() {
@@ -270,9 +300,7 @@ public class GameScreen extends BaseScreen {
         paused = true;
 
         // Force UI focus
-        InputMultiplexer multiplexer = new InputMultiplexer();
-        multiplexer.addProcessor(uiStage);
-        Gdx.input.setInputProcessor(multiplexer);
+        Gdx.input.setInputProcessor(uiStage);
 
         SaveData data = SaveManager.load();
         boolean isHighScore = data.isHighScore(recordHeight);
@@ -307,6 +335,52 @@ public class GameScreen extends BaseScreen {
         gameOverTable.invalidateHierarchy();
     }
 
+    /**
+     * Starts a new run on this screen for RETRY. Textures, fonts, stages, pools and the UI all stay
+     * as they are (and the music keeps playing); only the run itself starts over: the world re-seeded
+     * in place, the player back at the start, no raids, hazards or pickups, score and timers zeroed.
+     */
+    public void resetRun() {
+        world.reset(MathUtils.random.nextLong()); // hands every chunk's mesh back through the listener
+        player.reset(400, 150);
+
+        stopAllRaids();
+        asteroidManager.reset();
+        hazards.clear();
+        for (int i = pickups.size() - 1; i >= 0; i--) pickups.get(i).remove();
+        ufoTrail.clear();
+        activeRaid = lastActiveRaid = RaidType.NONE;
+        raidEndHeight = 0;
+        nextAnomalyMinHeight = 0;
+        backgroundTintAlpha = 0;
+        anomalyTimer = 0;
+
+        currentState = State.PLAYING;
+        deathTimer = 0;
+        paused = false;
+        escWasPressed = false;
+        highestChunkReached = 0;
+        lastSnapChunk = -1;
+        recordHeight = 0;
+        stuckTimer = 0;
+        lastRecordedHeight = 0;
+        pitySpawned = false;
+
+        gameOverTable.clearActions();
+        gameOverTable.setVisible(false);
+        pauseOverlay.toggle(false);
+        uiStage.setKeyboardFocus(null);
+        Gdx.input.setInputProcessor(gameInput);
+        snapCamera(0);
+    }
+
+    // For tests in this package that drive a run frame by frame
+    PlayerActor getPlayer() { return player; }
+    WorldManager getWorld() { return world; }
+    RaidType getRaid() { return activeRaid; }
+    /** True while the run is being played: not paused, dying or over. */
+    boolean isPlaying() { return currentState == State.PLAYING && !paused; }
+
     private void snapCamera(int chunkIndex) {
         float newY = chunkIndex * SCREEN_HEIGHT;
         OrthographicCamera cam = (OrthographicCamera) stage.getCamera();
@@ -314,38 +388,26 @@ public class GameScreen extends BaseScreen {
         cam.update();
     }
 
-    private void checkCollisions() {
-        if (currentState != State.PLAYING || player.isGhost()) return;
-
-        for (var actor : stage.getActors()) {
-            if (actor instanceof AsteroidActor meteor) {
-                if (com.badlogic.gdx.math.Intersector.overlaps(meteor.getCollisionCircle(), player.getCollisionRect())) {
-                    startDeathSequence();
-                    break;
-                }
-            }
-            if (actor instanceof UfoActor ufo) {
-                if (com.badlogic.gdx.math.Intersector.overlaps(ufo.getCollisionCircle(), player.getCollisionRect())) {
-                    startDeathSequence();
-                    break;
-                }
-            }
-        }
-    }
     private void spawnPityPowerUp() {
-        System.out.println("PITY SYSTEM: Player is stuck! Finding a spot for help...");
-
-        Platform targetPlatform = null;
+        PlatformStore targetStore = null;
+        int target = -1;
         float closestDist = Float.MAX_VALUE;
-
-        // 1. Find the best platform ABOVE the player
-        for (Platform p : world.getActivePlatforms()) {
-            float dist = p.y1 - player.getY();
-            // Look for platforms between 0 and 400 pixels above the player
-            if (dist > 0 && dist < 400) {
-                if (dist < closestDist) {
-                    closestDist = dist;
-                    targetPlatform = p;
+        JumpEnvelope reach = player.getEnvelope();
+        float playerCenterX = player.getX() + player.getWidth() / 2f;
+
+        // 1. Find the closest platform ABOVE the player that they can actually jump to
+        ActiveWindow active = world.getActivePlatforms();
+        for (int s = 0; s < active.size(); s++) {
+            PlatformStore platforms = active.get(s);
+            for (int i = 0; i < platforms.size; i++) {
+                float dist = platforms.top[i] - player.getY();
+                float gap = Math.max(0f, Math.max(platforms.landLeft[i] - playerCenterX, playerCenterX - platforms.landRight[i]));
+                if (dist > 0 && reach.canReach(gap, dist)) {
+                    if (dist < closestDist) {
+                        closestDist = dist;
+                        targetStore = platforms;
+                        target = i;
+                    }
                 }
             }
         }
@@ -354,19 +416,24 @@ public class GameScreen extends BaseScreen {
         PowerUpActor.Type type = MathUtils.randomBoolean() ?
             PowerUpActor.Type.GHOST :
             PowerUpActor.Type.UFO_RIDE;
-        Texture tex = (type == PowerUpActor.Type.UFO_RIDE) ? ufoTex : ghostTex;
+        TextureRegion tex = (type == PowerUpActor.Type.UFO_RIDE) ? ufoTex : ghostTex;
 
         PowerUpActor pUp;
 
-        if (targetPlatform != null) {
+        if (targetStore != null) {
             // Option A: Found a platform! Place it there.
-            float centerX = (targetPlatform.x1 + targetPlatform.x2) / 2f;
-            pUp = new PowerUpActor(type, tex, centerX - 16, targetPlatform.y1 + 15);
-            System.out.println("Pity item spawned on platform at Y: " + targetPlatform.y1);
+            float centerX = (targetStore.left[target] + targetStore.right[target]) / 2f;
+            pUp = powerUpPool.obtain().init(type, tex, centerX - 16, targetStore.top[target] + 15);
+            if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+                Gdx.app.debug("Pity", "player stuck, " + type + " spawned on the platform at y " + targetStore.top[target]);
+            }
         } else {
             // Option B: No platform found? Spawn it in the air above the player.
-            pUp = new PowerUpActor(type, tex, player.getX(), player.getY() + 250);
-            System.out.println("Pity item spawned in mid-air!");
+            // Low enough for this character to jump to
+            pUp = powerUpPool.obtain().init(type, tex, player.getX(), player.getY() + Math.min(250f, reach.getMaxRise() * 0.8f));
+            if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+                Gdx.app.debug("Pity", "player stuck, " + type + " spawned in mid-air");
+            }
         }
 
         // 3. Add to stage and apply the "Bounce In" animation
@@ -376,25 +443,30 @@ public class GameScreen extends BaseScreen {
     }
 
     private void checkAndSpawnPowerUps() {
-        for (Platform p : world.getActivePlatforms()) {
-            if (p.powerUpType != null) {
-                System.out.println("SPAWNING: " + p.powerUpType);
-
-                Texture currentPU = (p.powerUpType == PowerUpActor.Type.UFO_RIDE) ? ufoTex : ghostTex;
-
-                float centerX = (p.x1 + p.x2) / 2f;
-                float spawnX = centerX - 16; // Assuming 32px wide power-up
-                float spawnY = p.y1 + 8;
-
-                PowerUpActor pUp = new PowerUpActor(p.powerUpType, currentPU, spawnX, spawnY);
-                stage.addActor(pUp);
-                p.powerUpType = null;
+        ActiveWindow active = world.getActivePlatforms();
+        for (int s = 0; s < active.size(); s++) {
+            PlatformStore p = active.get(s);
+            for (int i = 0; i < p.size; i++) {
+                if (p.powerUp[i] != null) {
+                    TextureRegion currentPU = (p.powerUp[i] == PowerUpActor.Type.UFO_RIDE) ? ufoTex : ghostTex;
+
+                    float centerX = (p.left[i] + p.right[i]) / 2f;
+                    float spawnX = centerX - 16; // Assuming 32px wide power-up
+                    float spawnY = p.top[i] + 8;
+
+                    PowerUpActor pUp = powerUpPool.obtain().init(p.powerUp[i], currentPU, spawnX, spawnY);
+                    stage.addActor(pUp);
+                    p.powerUp[i] = null;
+                }
             }
         }
     }
 
     @Override
     public void render(float delta) {
+        allocProbe.beginFrame();
+        renderStats.beginFrame();
+
         // 1. Clear the screen
         ScreenUtils.clear(0.05f, 0.05f, 0.08f, 1f);
 
@@ -406,7 +478,6 @@ public class GameScreen extends BaseScreen {
                 checkAndSpawnPowerUps();
             }
         }
-        main.soundPlayer.updateVolume();
         // 3. UPDATE UI LOGIC (ALWAYS - even if paused)
         // This is what makes the PausedScreen animation actually move!
         uiStage.act(delta);
@@ -433,21 +504,27 @@ public class GameScreen extends BaseScreen {
             batch.setColor(1f, currentGreenBlue, currentGreenBlue, 1f);
         }
 
-        float starScrollV = (player.getY() * 0.05f) / backgroundTexture.getHeight();
+        float starScrollV = (player.getRenderY() * 0.05f) / backgroundTexture.getHeight();
         batch.draw(backgroundTexture, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, 0, starScrollV + 1, 1, starScrollV);
 
-        float railScrollV = (player.getY() * 0.3f) / railTexture.getHeight();
+        float railScrollV = (player.getRenderY() * 0.3f) / railTexture.getHeight();
         batch.draw(railTexture, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, 0, (railScrollV / 2f), 1, (railScrollV / 2f) + 0.5f);
 
         batch.setColor(Color.WHITE);
         batch.end();
        // stage.setDebugAll(true);
         // 5. Game World Rendering (Platforms and Player)
+        updateViewBounds();
+
+        // Platforms first, straight from their cached meshes: one draw call per visible chunk
+        platformTile.begin(stage.getCamera().combined);
+        ActiveWindow activePlatforms = world.getActivePlatforms();
+        for (int i = 0; i < activePlatforms.size(); i++) {
+            platformTile.render(activePlatforms.get(i), viewBounds, renderStats);
+        }
+
         batch.setProjectionMatrix(stage.getCamera().combined);
         batch.begin();
-        for (Platform p : world.getActivePlatforms()) {
-            platformTile.render(batch, p);
-        }
 
         if (player.isGhost()) {
             // Give him a ghostly blue tint and 50% opacity
@@ -455,22 +532,11 @@ public class GameScreen extends BaseScreen {
         }
 
         if (player.hasUfo()) {
-            for (int i = 0; i < trailPositions.size; i++) {
-                Vector2 pos = trailPositions.get(i);
-
-                // Calculate transparency: further back = more faded
-                // (1.0 is the main ship, so we start trail at 0.5 and go down)
-                float alpha = 0.5f * (1f - (float) i / MAX_TRAIL_SAMPLES);
-
-                // Give it a "blue energy" tint
-                batch.setColor(0.4f, 0.7f, 1f, alpha);
-
-                // Draw the ghost UFO
-                batch.draw(ufoVehicle, pos.x, pos.y, 80, 50);
-            }
+            // Every afterimage in one submission; they carry their own colour
+            renderStats.record(RenderStats.Kind.TRAIL, ufoTrail.draw(batch, viewBounds), ufoTrail.size());
 
             batch.setColor(Color.WHITE);
-            batch.draw(ufoVehicle, player.getX() - 20, player.getY() - 10, 80, 50);
+            batch.draw(ufoVehicle, player.getRenderX() - 20, player.getRenderY() - 10, 80, 50);
         }
 
         if (!player.hasUfo()) {
@@ -485,58 +551,75 @@ public class GameScreen extends BaseScreen {
         }
 
         batch.setColor(Color.WHITE);
-        batch.end();
+        renderStats.record(RenderStats.Kind.HAZARDS, hazards.draw(batch, viewBounds), hazards.getCount());
 
-        // Draw the stage (for actors added to the world stage)
-        stage.draw();
+        // The stage's actors (pickups) from this same batch, so the storm still draws over them as it always has
+        stage.getRoot().draw(batch, 1f);
+        renderStats.record(RenderStats.Kind.PICKUPS, countVisiblePickups(), pickups.size());
 
-        // 6. Effects (Magnetic Glitch)
+        // 6. Storm effects, still in this pass: they sample the game atlas too, so they cost no extra flush.
+        // Both are laid out in screen space, offset by the camera's corner.
         if (backgroundTintAlpha > 0) {
             // We check if the raid IS or WAS a magnetic storm
             if (activeRaid == RaidType.MAGNETIC_STORM || lastActiveRaid == RaidType.MAGNETIC_STORM) {
-                batch.setProjectionMatrix(uiStage.getCamera().combined);
-                // Note: Batch begin/end is handled inside msManger.drawGlitch
-                msManger.drawGlitch(batch, backgroundTintAlpha);
+                msManger.drawGlitch(batch, viewBounds.x, viewBounds.y, backgroundTintAlpha);
             }
-        }
 
-        // 7. Anomaly Text Pulse
-        if (backgroundTintAlpha > 0) {
+            // Anomaly Text Pulse
             anomalyTimer += delta;
-            batch.setProjectionMatrix(uiStage.getCamera().combined);
-            batch.begin();
             if (!MathUtils.randomBoolean(0.03f)) {
                 float pulse = 0.6f + (float) Math.sin(anomalyTimer * 6f) * 0.4f;
                 batch.setColor(1, 1, 1, pulse * backgroundTintAlpha);
-                batch.draw(anomalyTex, (SCREEN_WIDTH / 2f) - 285f, 420, 570f, 85f);
+                batch.draw(anomalyRegion, viewBounds.x + (SCREEN_WIDTH / 2f) - 285f, viewBounds.y + 420, 570f, 85f);
                 batch.setColor(Color.WHITE);
             }
-            batch.end();
         }
+        batch.end();
+        logRenderStats(delta);
 
-        // 8. UI Rendering (Always last so it stays on top)
+        // 7. UI Rendering (Always last so it stays on top)
         uiStage.draw();
+
+        // Live gameplay should run without allocating; see FrameAllocationProbe
+        allocProbe.endFrame(currentState == State.PLAYING && !paused);
+    }
+
+    private void updateViewBounds() {
+        OrthographicCamera cam = (OrthographicCamera) stage.getCamera();
+        float w = stage.getViewport().getWorldWidth() * cam.zoom;
+        float h = stage.getViewport().getWorldHeight() * cam.zoom;
+        viewBounds.set(cam.position.x - w / 2f, cam.position.y - h / 2f, w, h);
+    }
+
+    private int countVisiblePickups() {
+        int visible = 0;
+        for (int i = 0; i < pickups.size(); i++) {
+            if (pickups.get(i).getBounds().overlaps(viewBounds)) visible++;
+        }
+        return visible;
+    }
+
+    /** Once a second at debug log level; the string is only built when it will be printed. */
+    private void logRenderStats(float delta) {
+        statsLogTimer += delta;
+        if (statsLogTimer < 1f) return;
+        statsLogTimer = 0;
+        if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+            // Misses should stop climbing once the pool has seen the busiest stretch of the run
+            Gdx.app.debug("Render", renderStats.describe() + ", pickup pool "
+                + powerUpPool.getHits() + " hits / " + powerUpPool.getMisses() + " misses");
+        }
     }
 
     private void handleAnomalyLogic(float delta) {
         float py = player.getY();
         if (activeRaid == RaidType.NONE && py >= 1500 && py >= nextAnomalyMinHeight) {
-            int choice = MathUtils.random(1, 3);
+            int choice = MathUtils.random(1, py >= METEOR_STORM_HEIGHT ? 4 : 3);
 
-            if (choice == 1) {
-                activeRaid = RaidType.ASTEROIDS;
-                main.soundPlayer.playMeteor();   // 🔊 meteor sound
-            }
-            else if (choice == 2) {
-                activeRaid = RaidType.UFO;
-                main.soundPlayer.playUFO();      // 🔊 alien sound
-            }
-            else {
-                activeRaid = RaidType.MAGNETIC_STORM;
-                main.soundPlayer.playStatic();   // 🔊 static sound
-            }
-
-            raidEndHeight = py + 2000f;
+            if (choice == 1) startRaid(RaidType.ASTEROIDS);
+            else if (choice == 2) startRaid(RaidType.UFO);
+            else if (choice == 3) startRaid(RaidType.MAGNETIC_STORM);
+            else startRaid(RaidType.METEOR_STORM);
         }
 
         if (activeRaid != RaidType.NONE) {
@@ -546,6 +629,7 @@ public class GameScreen extends BaseScreen {
             if (activeRaid == RaidType.ASTEROIDS) asteroidManager.update(delta, py, stage);
             else if (activeRaid == RaidType.UFO) ufoManager.update(delta, stage);
             else if (activeRaid == RaidType.MAGNETIC_STORM) msManger.update(delta, stage);
+            else if (activeRaid == RaidType.METEOR_STORM) asteroidManager.updateStorm(delta, stage);
 
             // Check if the raid should END
             if (py >= raidEndHeight) {
@@ -564,6 +648,16 @@ public class GameScreen extends BaseScreen {
         }
     }
 
+    /** Starts {@code raid} where the player is now; it runs for the next 2000 units of climb. */
+    void startRaid(RaidType raid) {
+        activeRaid = raid;
+        if (raid == RaidType.UFO) main.soundPlayer.playUFO();                    // 🔊 alien sound
+        else if (raid == RaidType.MAGNETIC_STORM) main.soundPlayer.playStatic(); // 🔊 static sound
+        else main.soundPlayer.playMeteor();                                      // 🔊 meteor sound
+
+        raidEndHeight = player.getY() + 2000f;
+    }
+
     private void stopAllRaids() {
         lastActiveRaid = activeRaid;
         activeRaid = RaidType.NONE;
@@ -572,14 +666,7 @@ public class GameScreen extends BaseScreen {
     }
 
     public void setupUI() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 28;
-        parameter.color = Color.WHITE;
-        parameter.borderWidth = 2f;
-        parameter.borderColor = Color.BLACK;
-        scoreFont = generator.generateFont(parameter);
-        generator.dispose();
+        scoreFont = main.fonts.get(28, 2f, 0);
 
         scoreLabel = new Label("Best: 0m", new Label.LabelStyle(scoreFont, Color.WHITE));
         Table scoreTable = new Table();
@@ -588,7 +675,7 @@ public class GameScreen extends BaseScreen {
         scoreTable.add(scoreLabel);
         uiStage.addActor(scoreTable);
 
-        Texture pauseTex = new Texture(Gdx.files.internal("Pause.png"));
+        Texture pauseTex = main.assets.texture(this, "Pause.png");
         ImageButton pauseButton = new ImageButton(new TextureRegionDrawable(new TextureRegion(pauseTex)));
         Table uiTable = new Table();
         uiTable.setFillParent(true);
@@ -645,7 +732,7 @@ public class GameScreen extends BaseScreen {
         gameOverTable.center();
         gameOverTable.setBackground(whiteDrawable.tint(new Color(0, 0, 0, 0.8f)));
 
-        titleTex = new Texture(Gdx.files.internal("GO.png"));
+        titleTex = main.assets.texture(this, "GO.png");
         Image goImage = new Image(titleTex);
         goImage.setOrigin(Align.center);
         goImage.addAction(Actions.forever(Actions.sequence(Actions.moveBy(0, 10, 0.8f), Actions.moveBy(0, -10, 0.8f))));
@@ -675,8 +762,7 @@ public class GameScreen extends BaseScreen {
 
         retryBtn.addListener(new ClickListener() {
             @Override public void clicked(InputEvent event, float x, float y) {
-                main.soundPlayer.stopMusic();
-                main.setScreen(new GameScreen(main, selection));
+                resetRun();
             }
         });
 
@@ -695,7 +781,7 @@ public class GameScreen extends BaseScreen {
         com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(1, 1, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
         pixmap.setColor(Color.WHITE);
         pixmap.fill();
-        Texture t = new Texture(pixmap);
+        Texture t = main.resources.track(this, new Texture(pixmap));
         pixmap.dispose();
         return t;
     }
@@ -704,17 +790,12 @@ public class GameScreen extends BaseScreen {
 
     @Override
     public void dispose() {
+        super.dispose();
         uiStage.dispose();
-        if (sprite != null) sprite.dispose();
-        if (scoreFont != null) scoreFont.dispose();
-        if (playerFallenTexture != null) playerFallenTexture.dispose();
-        if (platformTileTexture != null) platformTileTexture.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose();
-        if (titleTex != null) titleTex.dispose();
-        if (whitePixel != null) whitePixel.dispose();
-        if (asteroidTex != null) asteroidTex.dispose();
-        if (anomalyTex != null) anomalyTex.dispose();
-        if (msManger != null) msManger.dispose();
+        world.dispose();
+        main.assets.releaseAll(this);
+        if (platformTile != null) platformTile.dispose();
+        main.resources.disposeAll(this);
         if (pauseOverlay != null) {
             pauseOverlay.dispose();
         }
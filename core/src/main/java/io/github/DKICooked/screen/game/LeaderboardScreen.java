@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -32,8 +31,8 @@ public class LeaderboardScreen extends BaseScreen {
 
         // 1. Initialize assets
         createFonts();
-        this.lbPic = new Texture(Gdx.files.internal("LB.png"));
-        this.crownTex = new Texture(Gdx.files.internal("crown.png"));
+        this.lbPic = main.assets.texture(this, "LB.png");
+        this.crownTex = main.assets.texture(this, "crown.png");
 
         // 2. Set input processor so buttons work
         Gdx.input.setInputProcessor(stage);
@@ -42,17 +41,7 @@ public class LeaderboardScreen extends BaseScreen {
     }
 
     private void createFonts() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-        parameter.size = 18; // Adjusted size for list readability
-        parameter.color = Color.WHITE;
-        parameter.shadowOffsetX = 2;
-        parameter.shadowOffsetY = 2;
-        parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-
-        customFont = generator.generateFont(parameter);
-        generator.dispose();
+        customFont = main.fonts.get(18, 0f, 2); // Adjusted size for list readability
     }
 
     private void setupUI() {
@@ -166,8 +155,7 @@ public class LeaderboardScreen extends BaseScreen {
 
     @Override
     public void dispose() {
-        if (customFont != null) customFont.dispose();
-        if (lbPic != null) lbPic.dispose();
+        main.assets.releaseAll(this);
         super.dispose();
     }
 }
@@ -5,7 +5,6 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -30,7 +29,7 @@ public class PausedScreen extends Table {
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(new Color(0, 0, 0, 0.7f));
         pixmap.fill();
-        this.dimTex = new Texture(pixmap);
+        this.dimTex = main.resources.track(this, new Texture(pixmap));
         pixmap.dispose();
 
         Image bg = new Image(dimTex);
@@ -43,7 +42,7 @@ public class PausedScreen extends Table {
         btnStyle.fontColor = Color.valueOf("f8c72c");
         btnStyle.overFontColor = Color.valueOf("#ef901f");
         // 3. Header & Animation
-        pausedLabel = new Texture(Gdx.files.internal("Paused.png"));
+        pausedLabel = main.assets.texture(this, "Paused.png");
         pausedImage = new Image(pausedLabel);
         pausedImage.setOrigin(Align.center);
         pausedImage.addAction(Actions.forever(Actions.sequence(
@@ -81,12 +80,7 @@ public class PausedScreen extends Table {
     }
 
     private void createFonts() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 32;
-        parameter.borderWidth = 2f;
-        pauseFont = generator.generateFont(parameter);
-        generator.dispose();
+        pauseFont = main.fonts.get(32, 2f, 0);
     }
 
     public void toggle(boolean show) {
@@ -94,8 +88,7 @@ public class PausedScreen extends Table {
     }
 
     public void dispose() {
-        if (pauseFont != null) pauseFont.dispose();
-        if (dimTex != null) dimTex.dispose();
-        if (pausedLabel != null) pausedLabel.dispose();
+        main.resources.disposeAll(this);
+        main.assets.releaseAll(this);
     }
 }
@@ -5,7 +5,6 @@ import io.github.DKICooked.screen.BaseScreen;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
@@ -15,18 +14,14 @@ import io.github.DKICooked.Main;
 public class IntroScreen extends BaseScreen {
     private final Main main;
     private BitmapFont font;
+    private static final int LOAD_BUDGET_MS = 8; // of each frame, for the startup loading
 
     public IntroScreen(Main main) {
         this.main = main;
 
         main.soundPlayer.playStartupSoft();
 
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 32;
-        parameter.color = Color.WHITE;
-        font = generator.generateFont(parameter);
-        generator.dispose();
+        font = main.fonts.get(32);
 
         Label cookedLabel = new Label("COOKED PRESENTS...", new Label.LabelStyle(font, Color.WHITE));
         cookedLabel.getColor().a = 0;
@@ -49,6 +44,7 @@ public class IntroScreen extends BaseScreen {
     @Override
     public void render(float delta) {
         ScreenUtils.clear(0, 0, 0, 1);
+        main.updateLoading(LOAD_BUDGET_MS); // nothing else to do while the text fades
         stage.act(delta);
         stage.draw();
     }
@@ -56,6 +52,5 @@ public class IntroScreen extends BaseScreen {
     @Override
     public void dispose() {
         super.dispose();
-        if (font != null) font.dispose();
     }
 }
@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Container;
@@ -40,8 +39,8 @@ public class MainMenuScreen extends BaseScreen {
         createFonts();
 
         // 2. KEEP TITLES (Your original logic)
-        titleText = new Texture(Gdx.files.internal("toyour.png"));
-        subTitleText = new Texture(Gdx.files.internal("Infinity.png"));
+        titleText = main.assets.texture(this, "toyour.png");
+        subTitleText = main.assets.texture(this, "Infinity.png");
 
         Image title = new Image(titleText);
         Image subTitle = new Image(subTitleText);
@@ -124,24 +123,12 @@ public class MainMenuScreen extends BaseScreen {
     }
 
     private void createFonts() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 26; // Adjust this to match your UI scale
-        parameter.borderWidth = 1.5f;
-        parameter.borderColor = Color.BLACK;
-        parameter.shadowOffsetX = 2;
-        parameter.shadowOffsetY = 2;
-        parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-
-        menuFont = generator.generateFont(parameter);
-        generator.dispose();
+        menuFont = main.fonts.get(26, 1.5f, 2); // Adjust this to match your UI scale
     }
 
     @Override
     public void dispose() {
         super.dispose();
-        titleText.dispose();
-        subTitleText.dispose();
-        if (menuFont != null) menuFont.dispose();
+        main.assets.releaseAll(this);
     }
 }
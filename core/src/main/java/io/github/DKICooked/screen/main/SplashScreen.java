@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -20,6 +19,7 @@ public class SplashScreen extends BaseScreen {
     private final Main main;
     private final Texture titleTex;
     private final Texture subTitleTex;
+    private static final int LOAD_BUDGET_MS = 8; // of each frame, for the startup loading
 
 
     public SplashScreen(Main main) {
@@ -27,8 +27,8 @@ public class SplashScreen extends BaseScreen {
 
         main.soundPlayer.playStartupFast();
 
-        titleTex = new Texture(Gdx.files.internal("toyour.png"));
-        subTitleTex = new Texture(Gdx.files.internal("Infinity.png"));
+        titleTex = main.assets.texture(this, "toyour.png");
+        subTitleTex = main.assets.texture(this, "Infinity.png");
 
         Image titleImg = new Image(titleTex);
         Image subTitleImg = new Image(subTitleTex);
@@ -69,6 +69,7 @@ public class SplashScreen extends BaseScreen {
     @Override
     public void render(float delta) {
         ScreenUtils.clear(0, 0, 0, 1); // Black background for that retro intro feel
+        main.updateLoading(LOAD_BUDGET_MS); // keeps the startup loading going behind the logo
         stage.act(delta);
         stage.draw();
     }
@@ -76,8 +77,7 @@ public class SplashScreen extends BaseScreen {
     @Override
     public void dispose() {
         super.dispose();
-        titleTex.dispose();
-        subTitleTex.dispose();
+        main.assets.releaseAll(this);
 
     }
 
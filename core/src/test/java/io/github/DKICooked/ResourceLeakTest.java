@@ -0,0 +1,131 @@
+package io.github.DKICooked;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.DKICooked.screen.game.CharacterSelectScreen;
+import io.github.DKICooked.screen.game.GameScreen;
+import io.github.DKICooked.screen.main.MainMenuScreen;
+import io.github.DKICooked.screen.main.SplashScreen;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Starts the real game headless and runs a hundred menu, play and retry round trips through the real
+ * screens, with the tracker in strict mode so any leftover or growth throws on the spot. GameScreen
+ * builds and disposes its PausedScreen along with it, and RETRY goes through {@link GameScreen#resetRun}
+ * as the button does. Real files are decoded and real fonts rasterized; GL calls go to {@link NoGl}.
+ */
+class ResourceLeakTest {
+    private static final int ROUND_TRIPS = 100;
+    private static final int FRAMES_PER_RUN = 30;
+    private static final float DT = 1 / 60f;
+    private static final String[] CHARACTERS = { "Alaine", "Jerick", "Timothy" };
+
+    private static HeadlessApplication app;
+
+    private Main main;
+    private final Array<Texture> forgotten = new Array<>(); // leaked on purpose, cleaned up after the test
+
+    @BeforeAll
+    static void headless() {
+        app = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        NoGl.install();
+    }
+
+    @AfterAll
+    static void exit() {
+        app.exit();
+    }
+
+    @BeforeEach
+    void startGame() {
+        System.setProperty(ResourceTracker.PROPERTY, "strict");
+        main = new Main();
+        main.create(); // the intro screen, with the startup loading queued behind it
+        while (!main.updateLoading(100)) {
+            // everything the menus and the game share, fonts included
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // Managed textures are counted app-wide, so a test that leaks on purpose mustn't leave them for the next
+        if (main != null) main.dispose();
+        for (Texture texture : forgotten) texture.dispose();
+        forgotten.clear();
+        System.clearProperty(ResourceTracker.PROPERTY);
+    }
+
+    @Test
+    void roundTripsLeaveNothingLive() {
+        main.setScreen(new SplashScreen(main));
+        main.setScreen(new MainMenuScreen(main));
+        for (int round = 0; round < ROUND_TRIPS; round++) {
+            main.setScreen(new CharacterSelectScreen(main)); // PLAY
+            GameScreen game = new GameScreen(main, CHARACTERS[round % CHARACTERS.length]);
+            main.setScreen(game);
+            play(game);
+
+            int live = main.resources.getLiveHandles();
+            game.resetRun(); // RETRY
+            assertEquals(live, main.resources.getLiveHandles(), "RETRY changed the live handles in round " + round);
+            play(game);
+
+            main.setScreen(new MainMenuScreen(main)); // QUIT
+        }
+        ResourceTracker resources = main.resources;
+        main.dispose();
+        main = null; // already shut down
+
+        assertEquals(0, resources.getLiveHandles(), "handles still live after the game shut down");
+    }
+
+    @Test
+    void aScreenThatKeepsWhatItOwnsIsReported() {
+        main.setScreen(new MainMenuScreen(main));
+        main.setScreen(new ScreenAdapter() {
+            {
+                forgotten.add(main.resources.track(this, solid())); // and never disposed
+            }
+        });
+        assertThrows(GdxRuntimeException.class, () -> main.setScreen(new MainMenuScreen(main)));
+    }
+
+    @Test
+    void handlesThatPileUpAcrossVisitsAreReported() {
+        main.setScreen(new CarelessScreen());
+        main.setScreen(new MainMenuScreen(main));
+        assertThrows(GdxRuntimeException.class, () -> main.setScreen(new CarelessScreen()));
+    }
+
+    private static void play(GameScreen game) {
+        for (int frame = 0; frame < FRAMES_PER_RUN; frame++) game.render(DT);
+    }
+
+    /** Loads a texture straight from disk on every visit and never disposes it, like the old GameScreen did. */
+    private class CarelessScreen extends ScreenAdapter {
+        CarelessScreen() {
+            forgotten.add(new Texture(Gdx.files.internal("rail.png")));
+        }
+    }
+
+    private static Texture solid() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pickups spawned and collected the way a long run does, a few on screen at once, and checks the
+ * promise in ActorPool's class comment: once the pool has grown to the most ever live at once,
+ * every obtain is a hit and misses stop climbing.
+ */
+class ActorPoolTest {
+    private static final int WARMUP_FRAMES = 600;
+    private static final int FRAMES = 6000;
+    private static final int MOST_LIVE = 6;
+
+    private final ActorRegistry<PowerUpActor> pickups = new ActorRegistry<>();
+    private final ActorPool<PowerUpActor> pool = new ActorPool<PowerUpActor>(2, pickups) {
+        @Override
+        protected PowerUpActor newObject() {
+            PowerUpActor pUp = new PowerUpActor();
+            pUp.setPool(this);
+            return pUp;
+        }
+    };
+    private final Group world = new Group(); // stands in for the stage root
+
+    @Test
+    void missesStopClimbingOnceWarmedUp() {
+        MathUtils.random.setSeed(11L);
+        TextureRegion region = new TextureRegion();
+
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++) step(region);
+        int misses = pool.getMisses();
+        int hits = pool.getHits();
+        assertTrue(misses <= MOST_LIVE, misses + " misses for at most " + MOST_LIVE + " live pickups");
+
+        for (int frame = 0; frame < FRAMES; frame++) step(region);
+        assertEquals(misses, pool.getMisses(), "the pool still missed after warming up");
+        assertTrue(pool.getHits() > hits, "nothing was obtained after warming up");
+    }
+
+    /** One frame: maybe a pickup spawns on a platform, maybe the player collects one. */
+    private void step(TextureRegion region) {
+        if (pickups.size() < MOST_LIVE && MathUtils.randomBoolean(0.1f)) {
+            world.addActor(pool.obtain().init(PowerUpActor.Type.GHOST, region, MathUtils.random(800f), 0));
+        }
+        if (pickups.size() > 0 && MathUtils.randomBoolean(0.1f)) {
+            pickups.get(MathUtils.random(pickups.size() - 1)).remove(); // frees it back to the pool
+        }
+        world.act(1 / 60f);
+    }
+}
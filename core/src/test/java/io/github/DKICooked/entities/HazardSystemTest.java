@@ -0,0 +1,47 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A meteor storm where every piece kills, the way {@code -Ddki.lethalStorm=true} plays it: thousands of
+ * lethal hazards in flight, the player moving through them. Every frame, update's answer has to match a
+ * test of every lethal hazard with no window at all.
+ */
+class HazardSystemTest {
+    private static final float DT = 1 / 60f;
+    private static final int FRAMES = 600;
+    private static final int DEBRIS_PER_FRAME = 40; // 2400 a second, three times the storm's rate
+
+    @Test
+    void lethalStormHitsExactlyWhenEveryHazardIsTested() {
+        MathUtils.random.setSeed(42L);
+        TextureRegion region = new TextureRegion();
+        HazardSystem hazards = new HazardSystem(region, new Animation<>(0.3f, region));
+        Rectangle player = new Rectangle(0, 300, 40, 60);
+
+        int hits = 0, peak = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            for (int i = 0; i < DEBRIS_PER_FRAME; i++) {
+                hazards.spawnDebris(MathUtils.random(0f, 1300f), 600 + MathUtils.random(0f, 400f),
+                    MathUtils.random(8f, 20f), true);
+            }
+            if (frame % 15 == 0) hazards.spawnAsteroid(MathUtils.random(400, 1000), 800);
+            player.x = 100 + (frame * 7) % 600; // sweep across the screen
+
+            boolean hit = hazards.update(DT, 300f, player);
+            assertEquals(hazards.hitsAny(player), hit, "the window in update disagreed at frame " + frame);
+            if (hit) hits++;
+            peak = Math.max(peak, hazards.getCount());
+        }
+
+        assertTrue(peak > 1000, "the storm never got dense: " + peak + " hazards at most");
+        assertTrue(hits > 0, "nothing ever hit the player");
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.DKICooked.entities.CharacterStats;
+import io.github.DKICooked.entities.PlatformStore;
+import io.github.DKICooked.gameLogic.physics.JumpEnvelope;
+import io.github.DKICooked.gameLogic.physics.PlayerPhysicsProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Restarts a world in place the way RETRY does, with the cache at its smallest so chunks are evicted
+ * and recycled all the way up, and checks the layout depends on the seed alone: not on what the
+ * recycled chunks and their indexes held before, nor on the run that came before the reset.
+ */
+class WorldResetTest {
+    private static final int CLIMB = 20; // chunks, past a seed checkpoint and well past the seed history
+
+    private final JumpEnvelope reach = CharacterStats.JERICK.getEnvelope(PlayerPhysicsProcessor.DEFAULT_STEP_RATE);
+    private WorldManager world;
+
+    @BeforeEach
+    void smallestCache() {
+        world = new WorldManager(7L, reach);
+        world.setCachePolicy(WorldManager.EvictionPolicy.LRU, 0);
+    }
+
+    @AfterEach
+    void stopGenerator() {
+        world.dispose();
+    }
+
+    @Test
+    void sameSeedAfterResetBuildsTheSameWorld() {
+        float[][] first = climb();
+        assertTrue(world.getEvictions() > 0, "nothing was evicted, so nothing was recycled");
+
+        world.reset(99L);
+        float[][] other = climb();
+        world.reset(7L);
+        float[][] again = climb();
+
+        for (int c = 0; c < CLIMB; c++) assertArrayEquals(first[c], again[c], "chunk " + c + " changed after reset");
+        boolean differs = false;
+        for (int c = 0; c < CLIMB; c++) differs |= !Arrays.equals(first[c], other[c]);
+        assertTrue(differs, "another seed built the same world");
+    }
+
+    @Test
+    void fallingBackAfterResetRebuildsTheNewRun() {
+        climb();
+        chunkAt(0); // so the old run has rebuilt chunks too, and the reset has a rebuild generator to re-seed
+        world.reset(99L);
+        float[][] up = climb();
+        for (int c = CLIMB - 1; c >= 0; c--) {
+            assertArrayEquals(up[c], chunkAt(c), "chunk " + c + " rebuilt differently on the way down");
+        }
+        assertTrue(world.getRebuilds() > 0, "nothing was rebuilt");
+    }
+
+    @Test
+    void resetHandsBackEveryResidentChunk() {
+        climb();
+        int resident = world.getResidentChunks();
+        IntArray evicted = new IntArray();
+        world.setChunkListener((index, platforms) -> evicted.add(index));
+
+        world.reset(99L);
+
+        assertEquals(resident, evicted.size, "a chunk's mesh would outlive the reset");
+        assertEquals(99L, world.getSeed());
+        assertEquals(0, world.getCurrentChunk());
+        assertEquals(0, world.getEvictions());
+        assertEquals(0, world.getRebuilds());
+    }
+
+    private float[][] climb() {
+        float[][] chunks = new float[CLIMB][];
+        for (int c = 0; c < CLIMB; c++) chunks[c] = chunkAt(c);
+        return chunks;
+    }
+
+    /** Moves the player into chunk {@code c} and flattens what's there into one array to compare. */
+    private float[] chunkAt(int c) {
+        float yStart = c * WorldManager.CHUNK_HEIGHT;
+        world.update(yStart + 1);
+
+        PlatformStore platforms = new PlatformStore();
+        world.queryPlatforms(0, yStart, 800, yStart + WorldManager.CHUNK_HEIGHT, platforms);
+        assertTrue(platforms.size > 0, "chunk " + c + " is empty");
+
+        FloatArray flat = new FloatArray();
+        for (int i = 0; i < platforms.size; i++) {
+            flat.addAll(platforms.left[i], platforms.right[i], platforms.bottom[i], platforms.top[i], platforms.type[i]);
+        }
+        return flat.toArray();
+    }
+}
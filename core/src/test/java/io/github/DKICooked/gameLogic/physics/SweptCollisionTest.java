@@ -0,0 +1,152 @@
+package io.github.DKICooked.gameLogic.physics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import io.github.DKICooked.entities.PlatformStore;
+import io.github.DKICooked.entities.PlayerActor;
+import io.github.DKICooked.gameLogic.PlatformQuery;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fires the player at 1px-thick platforms fast enough to cover many times their thickness in one step,
+ * at several step rates, and checks that it lands, bumps or stops instead of passing through.
+ */
+class SweptCollisionTest {
+    private static final float WIDTH = 40f, HEIGHT = 60f;
+    private static final float THIN = 1f;
+
+    // Straight down: a long fall, past any fall in the game, and far past it
+    private static final float[] FALL_SPEEDS = { 1800f, 3000f, 6000f, 12000f };
+    // Straight up: a full charge, charge plus a mid-air jump, and far past both
+    private static final float[] RISE_SPEEDS = { 1000f, 1650f, 3000f, 6000f };
+
+    @BeforeAll
+    static void noKeysHeld() {
+        Gdx.input = new MockInput(); // nothing pressed, so physics never charges or jumps on its own
+    }
+
+    @ParameterizedTest(name = "{0} Hz")
+    @ValueSource(ints = { 30, 60, 120, 240 })
+    void fallsLandOnThinSlabs(int stepRate) {
+        for (float speed : FALL_SPEEDS) {
+            PlatformStore platforms = new PlatformStore();
+            platforms.addSlab(300, 500, 300, THIN, null);
+
+            Rig rig = new Rig(stepRate, platforms);
+            rig.player.setPosition(380, 300 + speed / stepRate * 3.5f); // lands between steps, a few steps in
+            rig.player.getBody().velocityY = -speed;
+
+            for (int s = 0; s < stepRate && !rig.physics.isGrounded; s++) rig.step(0f);
+
+            String at = speed + " px/s at " + stepRate + " Hz";
+            assertTrue(rig.physics.isGrounded, "fell through the slab: " + at);
+            assertEquals(300f, rig.player.getY(), "landed off the surface: " + at);
+            assertEquals(0f, rig.player.getBody().velocityY, "still falling after landing: " + at);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} Hz")
+    @ValueSource(ints = { 30, 60, 120, 240 })
+    void fallsAcrossASlabEdgeLandWhereTheyCrossedIt(int stepRate) {
+        // Drifting right while falling: over the slab when the feet cross it, past its end by the next step
+        PlatformStore platforms = new PlatformStore();
+        platforms.addSlab(300, 500, 300, THIN, null);
+
+        Rig rig = new Rig(stepRate, platforms);
+        float speed = 6000f;
+        rig.player.setPosition(480, 300 + speed / stepRate * 0.5f);
+        rig.player.getBody().velocityX = 300f;
+        rig.player.getBody().velocityY = -speed;
+        rig.step(1f);
+
+        assertTrue(rig.physics.isGrounded, "slid off the end through the slab at " + stepRate + " Hz");
+        assertEquals(300f, rig.player.getY());
+    }
+
+    @ParameterizedTest(name = "{0} Hz")
+    @ValueSource(ints = { 30, 60, 120, 240 })
+    void jumpsBumpThinSlabsFromBelow(int stepRate) {
+        for (float speed : RISE_SPEEDS) {
+            PlatformStore platforms = new PlatformStore();
+            platforms.addSlab(300, 500, 400, THIN, null);
+            float underside = 400 - THIN;
+
+            Rig rig = new Rig(stepRate, platforms);
+            rig.player.setPosition(380, underside - HEIGHT - 100);
+            rig.player.getBody().velocityY = speed;
+
+            boolean bumped = false;
+            for (int s = 0; s < stepRate; s++) {
+                float before = rig.player.getBody().velocityY;
+                rig.step(0f);
+                String at = speed + " px/s at " + stepRate + " Hz";
+                assertTrue(rig.player.getY() + HEIGHT <= underside, "head went through the slab: " + at);
+                if (before > 0 && rig.player.getBody().velocityY == 0f) bumped = true;
+            }
+            assertTrue(bumped, "never reached the slab at " + speed + " px/s, " + stepRate + " Hz");
+        }
+    }
+
+    @ParameterizedTest(name = "{0} Hz")
+    @ValueSource(ints = { 30, 60, 120, 240 })
+    void runningStopsAtWalls(int stepRate) {
+        PlatformStore platforms = new PlatformStore();
+        platforms.addSlab(0, 800, 100, THIN, null); // floor
+        platforms.addWall(500, 100, 400);
+
+        Rig rig = new Rig(stepRate, platforms);
+        rig.player.setPosition(300, 100);
+        rig.step(0f); // settle onto the floor
+
+        for (int s = 0; s < stepRate * 3; s++) {
+            rig.step(1f);
+            assertTrue(rig.player.getX() + WIDTH <= 500f, "ran through the wall at " + stepRate + " Hz");
+        }
+        assertEquals(500f - WIDTH, rig.player.getX(), "stopped short of the wall at " + stepRate + " Hz");
+    }
+
+    @ParameterizedTest(name = "{0} Hz")
+    @ValueSource(ints = { 30, 60, 120, 240 })
+    void missesStillFall(int stepRate) {
+        // The sweep shouldn't invent landings either: a fall beside the slab keeps going
+        PlatformStore platforms = new PlatformStore();
+        platforms.addSlab(300, 500, 300, THIN, null);
+
+        Rig rig = new Rig(stepRate, platforms);
+        rig.player.setPosition(600, 500);
+        rig.player.getBody().velocityY = -6000f;
+        for (int s = 0; s < stepRate / 10; s++) rig.step(0f);
+
+        assertFalse(rig.physics.isGrounded);
+        assertTrue(rig.player.getY() < 300f);
+    }
+
+    /** A Timothy-weight player, their physics at one step rate, and a fixed set of platforms. */
+    private static final class Rig {
+        final PlayerActor player;
+        final PlayerPhysicsProcessor physics;
+        final float step;
+        final PlatformQuery world;
+
+        Rig(int stepRate, PlatformStore platforms) {
+            player = new PlayerActor(null, stepRate); // never jumps, so never plays a sound
+            player.setSize(WIDTH, HEIGHT);
+            player.initStats("Timothy");
+            physics = new PlayerPhysicsProcessor(player, player.getBody(), null, stepRate);
+            step = physics.getStep();
+            world = (minX, minY, maxX, maxY, out) -> {
+                for (int i = 0; i < platforms.size; i++) out.addFrom(platforms, i);
+            };
+        }
+
+        void step(float input) {
+            physics.update(step, world, input);
+        }
+    }
+}
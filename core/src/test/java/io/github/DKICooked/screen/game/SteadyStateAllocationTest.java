@@ -0,0 +1,235 @@
+package io.github.DKICooked.screen.game;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import com.badlogic.gdx.math.MathUtils;
+import io.github.DKICooked.Main;
+import io.github.DKICooked.NoGl;
+import io.github.DKICooked.entities.PlatformStore;
+import io.github.DKICooked.entities.PlayerActor;
+import io.github.DKICooked.gameLogic.ActiveWindow;
+import io.github.DKICooked.render.FrameAllocationProbe;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The real game loop, headless: Main loads everything as it does at startup, then GameScreen.render
+ * runs frame by frame with the probe around each call, drawing through {@link NoGl}. The player is on
+ * foot, charging jumps from platform to platform, landing and bumping their head as a player does,
+ * and is moved up a platform every so often so the run climbs through chunk after chunk. A raid is
+ * always on, the two storms among them, and a run that dies is retried through {@link GameScreen#resetRun}.
+ * Once warmed up, not one frame that starts in play may allocate. Run by the {@code allocationTest}
+ * task, which {@code check} depends on.
+ */
+@Tag("allocation")
+class SteadyStateAllocationTest {
+    private static final float DT = 1 / 60f;
+    private static final int WARMUP_FRAMES = 3600;   // every raid a few times, every pool at full size
+    private static final int MEASURED_FRAMES = 5400; // the probe skips the first 300 of them itself
+    private static final int CLIMB_EVERY = 60;       // frames between moves up a platform
+    private static final GameScreen.RaidType[] RAIDS = {
+        GameScreen.RaidType.MAGNETIC_STORM, GameScreen.RaidType.METEOR_STORM,
+        GameScreen.RaidType.ASTEROIDS, GameScreen.RaidType.UFO
+    };
+
+    private static HeadlessApplication app;
+    private static final Keys keys = new Keys();
+
+    private Main main;
+    private GameScreen game;
+    private int frame;
+    private int nextRaid;
+    private int chargeFrames; // how long the current jump is held; 0 when not charging
+    private int lastClimb;
+    private int jumps;
+
+    // What the measured frames did, so the test can show it covered the paths it claims to
+    private int playingFrames, stormFrames, chunkCrossings, landings, headBumps;
+
+    @BeforeAll
+    static void headless() {
+        app = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        NoGl.install();
+        Gdx.input = keys;
+    }
+
+    @AfterAll
+    static void exit() {
+        app.exit();
+    }
+
+    @BeforeEach
+    void startGame() {
+        MathUtils.random.setSeed(1234L);
+        main = new Main();
+        main.create();
+        while (!main.updateLoading(100)) {
+            // everything the game uses, fonts included
+        }
+        game = new GameScreen(main, "Jerick");
+        main.setScreen(game);
+        main.resize(800, 600);
+    }
+
+    @AfterEach
+    void shutDown() {
+        main.dispose();
+        keys.releaseAll();
+    }
+
+    @Test
+    void gameplayFramesAllocateNothing() {
+        FrameAllocationProbe probe = new FrameAllocationProbe(FrameAllocationProbe.Mode.STRICT);
+        assertTrue(probe.isEnabled(), "this JVM can't count allocations per thread");
+
+        waitForLookAhead();
+        for (int i = 0; i < WARMUP_FRAMES; i++) frame(null);
+        playingFrames = stormFrames = chunkCrossings = landings = headBumps = 0;
+
+        // The probe ignores its own warm-up frames, then throws on the first frame that allocates
+        for (int i = 0; i < MEASURED_FRAMES; i++) frame(probe);
+        assertEquals(0, probe.getAllocatingFrames());
+        assertTrue(playingFrames > MEASURED_FRAMES * 3 / 4, "only " + playingFrames + " frames were played");
+        assertTrue(stormFrames > MEASURED_FRAMES / 4, "only " + stormFrames + " frames had a storm on");
+        assertTrue(chunkCrossings > 20, "only " + chunkCrossings + " chunk boundaries were crossed");
+        assertTrue(landings > 50, "only " + landings + " landings");
+        assertTrue(headBumps > 0, "the player never bumped their head");
+        assertTrue(game.getWorld().getEvictions() > 0, "nothing was evicted, so nothing was recycled");
+    }
+
+    /**
+     * One frame as the game runs it. Everything the test itself does, retrying, starting raids and
+     * steering, happens before the probe opens the frame.
+     */
+    private void frame(FrameAllocationProbe probe) {
+        if (!game.isPlaying()) game.resetRun(); // RETRY, once the run has ended
+        if (game.getRaid() == GameScreen.RaidType.NONE) game.startRaid(RAIDS[nextRaid++ % RAIDS.length]);
+
+        PlayerActor player = game.getPlayer();
+        steer(player);
+        boolean grounded = player.isGrounded();
+        float rising = player.getBody().velocityY;
+        int chunk = game.getWorld().getCurrentChunk();
+        boolean playing = game.isPlaying();
+
+        if (probe != null) probe.beginFrame();
+        game.render(DT);
+        if (probe != null) probe.endFrame(playing);
+        keys.endFrame();
+        frame++;
+
+        if (!playing) return;
+        playingFrames++;
+        GameScreen.RaidType raid = game.getRaid();
+        if (raid == GameScreen.RaidType.MAGNETIC_STORM || raid == GameScreen.RaidType.METEOR_STORM) stormFrames++;
+        if (game.getWorld().getCurrentChunk() != chunk) chunkCrossings++;
+        if (!grounded && player.isGrounded()) landings++;
+        if (rising > 0 && player.getBody().velocityY == 0 && !player.isGrounded()) headBumps++;
+    }
+
+    /** Charges a jump of some length, drifting one way then the other, and every so often moves up a platform. */
+    private void steer(PlayerActor player) {
+        // Steers a little on the way up, one way on one jump and the other way on the next
+        keys.release(Input.Keys.A);
+        keys.release(Input.Keys.D);
+        if (player.getBody().velocityY > 0) keys.press(jumps % 2 == 0 ? Input.Keys.D : Input.Keys.A);
+
+        if (chargeFrames > 0) {
+            if (--chargeFrames == 0) keys.release(Input.Keys.SPACE); // the jump goes off
+            return;
+        }
+        if (!player.isGrounded() || player.hasUfo()) return;
+
+        if (frame - lastClimb >= CLIMB_EVERY && climb(player)) {
+            lastClimb = frame;
+            return;
+        }
+        if (frame % 20 == 0) {
+            chargeFrames = 5 + (frame / 20) % 30;
+            keys.press(Input.Keys.SPACE);
+            jumps++;
+        }
+    }
+
+    /** Drops the player just above the lowest platform a jump or two up, to land on it. */
+    private boolean climb(PlayerActor player) {
+        ActiveWindow window = game.getWorld().getActivePlatforms();
+        PlatformStore target = null;
+        int best = -1;
+        for (int s = 0; s < window.size(); s++) {
+            PlatformStore p = window.get(s);
+            for (int i = 0; i < p.size; i++) {
+                float rise = p.top[i] - player.getY();
+                if (p.type[i] != PlatformStore.SLAB || rise < 150f || rise > 450f) continue;
+                if (p.landRight[i] - p.landLeft[i] < player.getWidth() + 8f) continue;
+                if (target == null || p.top[i] < target.top[best]) {
+                    target = p;
+                    best = i;
+                }
+            }
+        }
+        if (target == null) return false;
+
+        float x = (target.landLeft[best] + target.landRight[best] - player.getWidth()) / 2f;
+        player.setPosition(x, target.top[best] + 40f);
+        player.getBody().velocityX = 0f;
+        player.getBody().velocityY = 0f;
+        return true;
+    }
+
+    private void waitForLookAhead() {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (game.getWorld().getGenerationLead() < 3) {
+            assertTrue(System.currentTimeMillis() < deadline, "chunk generator never caught up");
+            game.getWorld().update(game.getPlayer().getY());
+            Thread.yield();
+        }
+    }
+
+    /** Keys held down by the test instead of a keyboard. */
+    private static final class Keys extends MockInput {
+        private final boolean[] held = new boolean[Input.Keys.MAX_KEYCODE + 1];
+        private final boolean[] justPressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+
+        void press(int key) {
+            if (!held[key]) justPressed[key] = true;
+            held[key] = true;
+        }
+
+        void release(int key) {
+            held[key] = false;
+        }
+
+        void releaseAll() {
+            Arrays.fill(held, false);
+            endFrame();
+        }
+
+        void endFrame() {
+            Arrays.fill(justPressed, false);
+        }
+
+        @Override
+        public boolean isKeyPressed(int key) {
+            return key >= 0 && held[key];
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int key) {
+            return key >= 0 && justPressed[key];
+        }
+    }
+}